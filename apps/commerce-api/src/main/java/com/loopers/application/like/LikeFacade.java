@@ -1,28 +1,47 @@
 package com.loopers.application.like;
 
 import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductInfo;
 import com.loopers.domain.like.LikeCommand;
+import com.loopers.domain.like.LikeCursor;
 import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.like.LikeInsertResult;
 import com.loopers.domain.like.LikeService;
-import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.like.LikedProductCache;
+import com.loopers.domain.product.ProductLikeCounter;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.jpa.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class LikeFacade {
 
+    public static final int MAX_FLAG_SIZE = 100;
+    public static final int MAX_FEED_SIZE = 100;
+
     private final UserService userService;
     private final ProductService productService;
     private final LikeService likeService;
     private final ProductFacade productFacade;
+    private final ProductLikeCounter productLikeCounter;
+    private final LikedProductCache likedProductCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @Transactional
     public LikeInfo like(LikeCommand.Create createCommand) {
@@ -30,24 +49,20 @@ public class LikeFacade {
             throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 사용자입니다.");
         }
 
-        ProductEntity product = productService.findById(createCommand.productId())
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다."));
+        if (!productService.existsById(createCommand.productId())) {
+            throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다.");
+        }
 
-        // 멱등성을 위해 이미 존재하는지 확인
-        boolean isNewLike = !likeService.existsByUserIdAndProductId(createCommand.userId(), createCommand.productId());
+        // 이미 좋아요한 상태면 아무 행도 추가되지 않는다. (멱등)
+        LikeInsertResult result = likeService.addLike(createCommand);
 
-        LikeEntity likeEntity = likeService.createLike(createCommand);
-        
         // 비정규화된 likes 카운트 업데이트
-        if (isNewLike) {
-            product.incrementLikes();
-            productService.save(product);
-            
-            // 상품 캐시 무효화
-            productFacade.evictProductCacheForLikes(createCommand.productId());
+        if (result.inserted()) {
+            changeLikes(createCommand.productId(), 1L);
+            likedProductCache.add(createCommand.userId(), createCommand.productId());
         }
-        
-        return LikeInfo.from(likeEntity);
+
+        return LikeInfo.of(result.likeId(), createCommand.userId(), createCommand.productId());
     }
 
     @Transactional
@@ -55,19 +70,16 @@ public class LikeFacade {
         if (!userService.existsById(userId)) {
             throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 사용자입니다.");
         }
-        
-        ProductEntity product = productService.findById(productId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다."));
-        
-        // 좋아요 삭제
-        likeService.removeLike(userId, productId);
-        
-        // 비정규화된 likes 카운트 업데이트
-        product.decrementLikes();
-        productService.save(product);
-        
-        // 상품 캐시 무효화
-        productFacade.evictProductCacheForLikes(productId);
+
+        if (!productService.existsById(productId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다.");
+        }
+
+        // 좋아요가 없었으면 아무 행도 삭제되지 않는다. (멱등)
+        if (likeService.cancelLike(userId, productId)) {
+            changeLikes(productId, -1L);
+            likedProductCache.remove(userId, productId);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -81,8 +93,44 @@ public class LikeFacade {
                 .toList();
     }
 
+    /**
+     * 사용자가 좋아요한 상품을 최근 좋아요 순으로 커서 기반 조회한다.
+     * 한 페이지의 상품 정보는 상세 캐시 MGET 과 IN 쿼리로 한 번에 채우며, 삭제되어 찾을 수 없는 상품은 제외된다.
+     */
+    @Transactional(readOnly = true)
+    public LikedProductCursorInfo getLikedProductsByCursor(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_FEED_SIZE + " 이하여야 합니다.");
+        }
+        if (!userService.existsById(userId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 사용자입니다.");
+        }
+
+        Slice<LikeEntity> likes = likeService.findByUserIdAndCursor(userId, LikeCursor.decode(cursor), size);
+        List<LikeEntity> content = likes.getContent();
+
+        Map<Long, ProductInfo> productById = productFacade.findProductsByIds(
+                content.stream().map(LikeEntity::getProductId).toList()
+        ).stream().collect(Collectors.toMap(ProductInfo::id, Function.identity()));
+        List<LikedProductInfo> products = content.stream()
+                .filter(like -> productById.containsKey(like.getProductId()))
+                .map(like -> new LikedProductInfo(like.getId(), productById.get(like.getProductId())))
+                .toList();
+
+        String nextCursor = likes.hasNext() && !content.isEmpty()
+                ? new LikeCursor(content.get(content.size() - 1).getId()).encode()
+                : null;
+
+        return new LikedProductCursorInfo(products, nextCursor, likes.hasNext());
+    }
+
     @Transactional(readOnly = true)
     public boolean isLikedByUser(Long userId, Long productId) {
+        if (getLikedFlags(userId, List.of(productId)).get(productId)) {
+            return true;
+        }
+
+        // 좋아요하지 않은 경우에만 존재 여부를 확인해 기존과 같은 오류 응답을 유지한다.
         if (!userService.existsById(userId)) {
             throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 사용자입니다.");
         }
@@ -91,7 +139,34 @@ public class LikeFacade {
             throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다.");
         }
         
-        return likeService.existsByUserIdAndProductId(userId, productId);
+        return false;
+    }
+
+    /**
+     * 상품 목록의 각 상품에 대한 사용자의 좋아요 여부를 요청 순서대로 반환한다.
+     * 사용자별 좋아요 집합 캐시를 한 번 조회하고, 집합이 없을 때만 DB(primary) 에서 좋아요한 상품 ID 를 읽어 적재한다.
+     * 읽기 전에 버전을 얻어 두어, 읽는 동안 좋아요/취소가 있었으면 낡은 값을 적재하지 않는다.
+     */
+    public Map<Long, Boolean> getLikedFlags(Long userId, List<Long> productIds) {
+        if (productIds.size() > MAX_FLAG_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 상품은 최대 " + MAX_FLAG_SIZE + "개입니다.");
+        }
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+
+        Optional<Map<Long, Boolean>> cached = likedProductCache.findFlags(userId, distinctIds);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long version = likedProductCache.currentVersion(userId);
+        Set<Long> likedProductIds = new HashSet<>(
+                readYourWritesTracker.readFromPrimary(() -> likeService.findLikedProductIds(userId))
+        );
+        likedProductCache.load(userId, version, likedProductIds);
+
+        Map<Long, Boolean> flags = new LinkedHashMap<>();
+        distinctIds.forEach(productId -> flags.put(productId, likedProductIds.contains(productId)));
+        return flags;
     }
 
     @Transactional(readOnly = true)
@@ -111,4 +186,16 @@ public class LikeFacade {
         
         return likeService.countByUserId(userId);
     }
+
+    private void changeLikes(Long productId, long delta) {
+        if (productLikeCounter.isEnabled()) {
+            // 상품 행은 건드리지 않고, 스케줄러가 모아서 반영한다.
+            productLikeCounter.add(productId, delta);
+            return;
+        }
+
+        // 현재 값에 더하는 UPDATE 한 문장으로 반영하고 변경 이벤트를 발행한다.
+        // 상세 캐시는 커밋 뒤 ProductCacheEventListener 에서 무효화한다. (커밋 전에 지우면 그 사이의 조회가 이전 값을 다시 채운다)
+        productService.applyLikeDeltas(Map.of(productId, delta));
+    }
 }
@@ -8,6 +8,10 @@ public record LikeInfo(
         Long productId,
         String targetType
 ) {
+    public static LikeInfo of(Long id, Long userId, Long productId) {
+        return new LikeInfo(id, userId, productId, "PRODUCT");
+    }
+
     public static LikeInfo from(LikeEntity likeEntity) {
         return new LikeInfo(
                 likeEntity.getId(),
@@ -0,0 +1,10 @@
+package com.loopers.application.like;
+
+import java.util.List;
+
+public record LikedProductCursorInfo(
+        List<LikedProductInfo> products,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,9 @@
+package com.loopers.application.like;
+
+import com.loopers.application.product.ProductInfo;
+
+public record LikedProductInfo(
+        Long likeId,
+        ProductInfo product
+) {
+}
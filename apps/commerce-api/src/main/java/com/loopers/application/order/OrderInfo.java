@@ -1,5 +1,6 @@
 package com.loopers.application.order;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.loopers.domain.order.OrderEntity;
 import com.loopers.domain.order.OrderItemEntity;
 
@@ -29,6 +30,8 @@ public record OrderInfo(
     }
 
     public record OrderItemInfo(
+            // 시간순 ID 는 2^53 을 넘으므로 JavaScript 에서 정밀도를 잃지 않도록 문자열로 직렬화한다.
+            @JsonFormat(shape = JsonFormat.Shape.STRING)
             Long id,
             Long productId,
             Integer quantity,
@@ -4,6 +4,7 @@ import com.loopers.domain.payment.PaymentGateway;
 import com.loopers.domain.payment.PaymentEntity;
 import com.loopers.domain.payment.PaymentCommand;
 import com.loopers.domain.payment.PaymentInfo;
+import com.loopers.support.id.TransactionKeys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,7 +41,7 @@ public class PaymentFacade {
             
         } catch (Exception e) {
             // PG 연동 실패 시 기본 처리
-            String paymentId = generatePaymentId();
+            String paymentId = TransactionKeys.next();
             return new PaymentResult(
                 criteria.orderId(),
                 paymentId,
@@ -49,10 +50,6 @@ public class PaymentFacade {
         }
     }
     
-    private String generatePaymentId() {
-        return "20250816:TR:" + System.currentTimeMillis();
-    }
-    
     @Transactional(readOnly = true)
     public PaymentInfo getPaymentTransactionDetail(String transactionKey) {
         return paymentGateway.getPaymentTransactionDetail(transactionKey);
@@ -0,0 +1,60 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductCatalogIndex;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 메모리 인덱스를 기동 시 적재하고, 놓친 변경을 바로잡기 위해 주기적으로 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogIndexLoader {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ProductCatalogIndex productCatalogIndex;
+    private final ProductService productService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000) // 10분 = 600,000ms
+    public void reload() {
+        if (!productCatalogIndex.isEnabled()) {
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            ProductCatalogIndex.Loader loader = productCatalogIndex.beginLoad();
+
+            long lastId = 0L;
+            List<ProductEntity> chunk;
+            do {
+                chunk = productService.findChunkAfter(lastId, CHUNK_SIZE);
+                chunk.forEach(loader::add);
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+
+            loader.publish();
+            log.info("상품 인덱스 적재 완료: count={}, elapsedMs={}", loader.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 적재 전이면 DB 조회로 동작하고, 이전 인덱스가 있으면 그대로 사용한다.
+            log.warn("상품 인덱스 적재 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -1,26 +1,53 @@
 package com.loopers.application.product;
 
+import com.loopers.config.redis.RedisCacheConfig;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ProductCommand;
 import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRankingService;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.support.cache.TwoLevelCache;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.jpa.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class ProductFacade {
 
+    private static final String UNKNOWN_BRAND_NAME = "알 수 없는 브랜드";
+    private static final int MAX_BATCH_SIZE = 100;
+    public static final int MAX_CURSOR_SIZE = 100;
+
     private final ProductService productService;
     private final BrandService brandService;
+    private final ProductRankingService productRankingService;
+    private final CacheManager cacheManager;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @Transactional
     public ProductInfo createProduct(ProductCommand.Create command) {
@@ -44,63 +71,202 @@ public class ProductFacade {
         
         ProductEntity productEntity = productService.createProduct(command);
         
-        // 상품 생성 후 관련 캐시 무효화
-        evictProductListCache();
-        
         return ProductInfo.from(productEntity, brandName);
     }
 
+    /**
+     * 캐시를 채우는 조회는 primary 에서 읽는다. (커밋 직후 무효화된 목록을 복제 지연된 replica 의 이전 값으로 다시 채우지 않도록)
+     */
     @Transactional(readOnly = true)
     @Cacheable(
         value = "productList", 
-        key = "#criteria.hashCode() + ':' + #pageable.pageNumber + ':' + #pageable.pageSize", 
-        unless = "#result == null"
+        key = "@productListCache.key(#criteria, #pageable)", 
+        sync = true
     )
     public Page<ProductInfo> findProducts(ProductCriteria criteria, Pageable pageable) {
-        Page<ProductEntity> productEntities = productService.findProducts(criteria, pageable);
-        
-        // 브랜드 정보를 조합하여 ProductInfo 생성
-        return productEntities.map(productEntity -> {
-            String brandName = brandService.find(productEntity.getBrandId())
-                    .map(brand -> brand.getName())
-                    .orElse("알 수 없는 브랜드");
-            return ProductInfo.from(productEntity, brandName);
-        });
+        // 엔티티 대신 브랜드명이 조인된 DTO 로 조회
+        Page<ProductSummary> summaries = readYourWritesTracker.readFromPrimary(
+                () -> productService.findProductSummaries(criteria, pageable)
+        );
+        return summaries.map(this::toProductInfo);
+    }
+
+    /**
+     * 전체 건수 없이 다음 페이지 존재 여부만 반환하는 상품 목록 조회 (COUNT 쿼리 생략)
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductInfo> findProductSlice(ProductCriteria criteria, Pageable pageable) {
+        Slice<ProductEntity> productEntities = productService.findProductSlice(criteria, pageable);
+
+        Map<Long, String> brandNames = findBrandNames(productEntities.getContent());
+
+        return productEntities.map(productEntity -> ProductInfo.from(
+                productEntity,
+                brandNames.getOrDefault(productEntity.getBrandId(), UNKNOWN_BRAND_NAME)
+        ));
     }
 
+    /**
+     * 커서 기반 상품 목록 조회. 다음 페이지가 있으면 마지막 상품으로 다음 커서를 만든다.
+     */
+    @Transactional(readOnly = true)
+    public ProductCursorInfo findProductsByCursor(ProductCriteria criteria, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
+        }
+        Slice<ProductEntity> productEntities = productService.findProductsByCursor(
+                criteria, ProductCursor.decode(cursor), size
+        );
+        List<ProductEntity> content = productEntities.getContent();
 
+        Map<Long, String> brandNames = findBrandNames(content);
+        List<ProductInfo> products = content.stream()
+                .map(productEntity -> ProductInfo.from(
+                        productEntity,
+                        brandNames.getOrDefault(productEntity.getBrandId(), UNKNOWN_BRAND_NAME)
+                ))
+                .toList();
+
+        String nextCursor = productEntities.hasNext() && !content.isEmpty()
+                ? ProductCursor.from(content.get(content.size() - 1), criteria.primaryOrder()).encode()
+                : null;
+
+        return new ProductCursorInfo(products, nextCursor, productEntities.hasNext());
+    }
 
+    /**
+     * 좋아요 순 상품 목록 조회.
+     * 순서는 Redis 랭킹에서 ID 만 가져오고, 상품 정보는 상세 캐시에서 채운 뒤 없는 것만 DB 에서 한 번에 조회한다.
+     * 랭킹이 아직 채워지지 않았으면 DB 정렬로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductInfo> findProductsOrderByLikes(Long brandId, Pageable pageable) {
+        if (!productRankingService.isReady()) {
+            ProductCriteria criteria = brandId != null
+                    ? new ProductCriteria(List.of(
+                            new ProductCriteria.OrderByLikeCount(),
+                            new ProductCriteria.BrandIdEquals(brandId)
+                    ))
+                    : ProductCriteria.orderByLikeCount();
+            return productService.findProductSummaries(criteria, pageable).map(this::toProductInfo);
+        }
+
+        long total = productRankingService.count(brandId);
+        List<Long> productIds = productRankingService.findIdsOrderByLikes(
+                brandId, pageable.getOffset(), pageable.getPageSize()
+        );
+        return new PageImpl<>(findProductInfos(productIds), pageable, total);
+    }
+
+    /**
+     * 여러 상품의 상세 정보를 요청한 ID 순서대로 한 번에 조회한다.
+     * 중복된 ID 는 한 번만 반환하고, 존재하지 않는 상품은 결과에서 제외한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductInfo> findProductsByIds(List<Long> productIds) {
+        if (productIds.size() > MAX_BATCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 상품은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        return findProductInfos(productIds.stream().filter(Objects::nonNull).distinct().toList());
+    }
+
+    /**
+     * 주어진 ID 순서대로 상품 정보를 조회한다.
+     * 상세 캐시는 MGET 한 번으로 조회하고, 없는 상품만 IN 쿼리 한 번으로 (primary 에서) 조회한 뒤 파이프라인 한 번으로 캐시에 채운다.
+     * DB 에서 찾을 수 없는 상품은 제외된다.
+     */
+    private List<ProductInfo> findProductInfos(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Cache cache = cacheManager.getCache("product");
+
+        Map<Long, ProductInfo> found = new HashMap<>();
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.getAll(productIds).forEach((key, value) -> {
+                if (value instanceof ProductInfo productInfo) {
+                    found.put((Long) key, productInfo);
+                }
+            });
+        } else if (cache != null) {
+            for (Long productId : productIds) {
+                Cache.ValueWrapper cached = cache.get(productId);
+                if (cached != null && cached.get() instanceof ProductInfo productInfo) {
+                    found.put(productId, productInfo);
+                }
+            }
+        }
+
+        List<Long> missingIds = productIds.stream()
+                .filter(productId -> !found.containsKey(productId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            List<ProductEntity> productEntities = readYourWritesTracker.readFromPrimary(
+                    () -> productService.findAllByIds(missingIds)
+            );
+            Map<Long, String> brandNames = findBrandNames(productEntities);
+            Map<Long, ProductInfo> loaded = new LinkedHashMap<>();
+            for (ProductEntity productEntity : productEntities) {
+                loaded.put(productEntity.getId(), ProductInfo.from(
+                        productEntity,
+                        brandNames.getOrDefault(productEntity.getBrandId(), UNKNOWN_BRAND_NAME)
+                ));
+            }
+            found.putAll(loaded);
+
+            if (cache instanceof TwoLevelCache twoLevelCache) {
+                twoLevelCache.putAll(loaded);
+            } else if (cache != null) {
+                loaded.forEach(cache::put);
+            }
+        }
+
+        return productIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
     
     @Transactional(readOnly = true)
     @Cacheable(
         value = "product", 
         key = "#productId", 
-        unless = "#result == null"
+        sync = true
     )
     public ProductInfo findProductById(Long productId) {
-        ProductEntity productEntity = productService.findById(productId)
+        // 캐시를 채우는 조회이므로 primary 에서 읽는다.
+        ProductEntity productEntity = readYourWritesTracker.readFromPrimary(() -> productService.findById(productId))
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다."));
         
         String brandName = brandService.find(productEntity.getBrandId())
                 .map(brand -> brand.getName())
-                .orElse("알 수 없는 브랜드");
+                .orElse(UNKNOWN_BRAND_NAME);
         
         return ProductInfo.from(productEntity, brandName);
     }
 
-    /**
-     * 상품 목록 캐시 무효화 (모든 상품 목록 캐시 삭제)
-     */
-    @CacheEvict(value = "productList", allEntries = true)
-    public void evictProductListCache() {
-        // 상품 목록 캐시 무효화
+    private ProductInfo toProductInfo(ProductSummary summary) {
+        return ProductInfo.from(
+                summary,
+                summary.brandName() != null ? summary.brandName() : UNKNOWN_BRAND_NAME
+        );
+    }
+
+    private Map<Long, String> findBrandNames(Collection<ProductEntity> productEntities) {
+        Set<Long> brandIds = productEntities.stream()
+                .map(ProductEntity::getBrandId)
+                .collect(Collectors.toSet());
+        return brandService.findNames(brandIds);
     }
 
     /**
      * 특정 상품 캐시 무효화
      */
-    @CacheEvict(value = "product", key = "#productId")
+    @Caching(evict = {
+        @CacheEvict(value = "product", key = "#productId"),
+        @CacheEvict(value = RedisCacheConfig.CACHE_PRODUCT_RESPONSE, key = "'detail:' + #productId")
+    })
     public void evictProductCache(Long productId) {
         // 상품 상세 캐시 무효화
     }
@@ -108,8 +274,19 @@ public class ProductFacade {
     /**
      * 좋아요 수 변경 시 상품 캐시 무효화
      */
-    @CacheEvict(value = "product", key = "#productId")
+    @Caching(evict = {
+        @CacheEvict(value = "product", key = "#productId"),
+        @CacheEvict(value = RedisCacheConfig.CACHE_PRODUCT_RESPONSE, key = "'detail:' + #productId")
+    })
     public void evictProductCacheForLikes(Long productId) {
         // 좋아요 수 변경으로 인한 상품 캐시 무효화
     }
+
+    /**
+     * 상품 목록 건수 캐시 전체 무효화 (상품 생성 커밋 후)
+     */
+    @CacheEvict(value = "productCount", allEntries = true)
+    public void evictProductCount() {
+        // 검색 조건별 건수가 모두 바뀔 수 있으므로 전체 무효화
+    }
 }
@@ -1,7 +1,9 @@
 package com.loopers.application.product;
 
 import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductSummary;
 import java.io.Serializable;
+import java.time.ZonedDateTime;
 
 public record ProductInfo(
         Long id,
@@ -10,7 +12,8 @@ public record ProductInfo(
         String brandName,
         Long price,
         Long stock,
-        Long likes
+        Long likes,
+        Long version
 ) implements Serializable {
     public static ProductInfo from(ProductEntity productEntity, String brandName) {
         return new ProductInfo(
@@ -20,7 +23,21 @@ public record ProductInfo(
                 brandName,
                 productEntity.getPrice(),
                 productEntity.getStock(),
-                productEntity.getLikes()
+                productEntity.getLikes(),
+                version(productEntity.getUpdatedAt())
+        );
+    }
+
+    public static ProductInfo from(ProductSummary summary, String brandName) {
+        return new ProductInfo(
+                summary.id(),
+                summary.name(),
+                summary.brandId(),
+                brandName,
+                summary.price(),
+                summary.stock(),
+                summary.likes(),
+                version(summary.updatedAt())
         );
     }
 
@@ -32,7 +49,13 @@ public record ProductInfo(
                 null,
                 productEntity.getPrice(),
                 productEntity.getStock(),
-                productEntity.getLikes()
+                productEntity.getLikes(),
+                version(productEntity.getUpdatedAt())
         );
     }
+
+    // 마지막 수정 시각(epoch millis)을 버전으로 쓴다. ETag 와 Last-Modified 의 기준이 된다.
+    private static Long version(ZonedDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.toInstant().toEpochMilli() : null;
+    }
 }
@@ -0,0 +1,71 @@
+package com.loopers.application.product;
+
+import com.loopers.support.cache.CacheValueCodec;
+import com.loopers.support.cache.CacheValueReader;
+import com.loopers.support.cache.CacheValueWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세 캐시 값(ProductInfo)의 바이너리 코덱.
+ * 첫 바이트에 null 인 필드를 비트로 표시하고, 값이 있는 필드만 선언 순서대로 쓴다.
+ * 필드를 추가할 때는 기존 비트 순서를 유지하고 뒤에 붙인다.
+ */
+@Component
+public class ProductInfoCacheCodec implements CacheValueCodec {
+
+    static final byte ID = 1;
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        return value instanceof ProductInfo;
+    }
+
+    @Override
+    public void write(Object value, CacheValueWriter writer) {
+        write((ProductInfo) value, writer);
+    }
+
+    @Override
+    public Object read(CacheValueReader reader) {
+        return readProductInfo(reader);
+    }
+
+    static void write(ProductInfo productInfo, CacheValueWriter writer) {
+        int present = (productInfo.id() != null ? 1 : 0)
+                | (productInfo.name() != null ? 1 << 1 : 0)
+                | (productInfo.brandId() != null ? 1 << 2 : 0)
+                | (productInfo.brandName() != null ? 1 << 3 : 0)
+                | (productInfo.price() != null ? 1 << 4 : 0)
+                | (productInfo.stock() != null ? 1 << 5 : 0)
+                | (productInfo.likes() != null ? 1 << 6 : 0)
+                | (productInfo.version() != null ? 1 << 7 : 0);
+        writer.writeByte(present);
+        if (productInfo.id() != null) writer.writeLong(productInfo.id());
+        if (productInfo.name() != null) writer.writeString(productInfo.name());
+        if (productInfo.brandId() != null) writer.writeLong(productInfo.brandId());
+        if (productInfo.brandName() != null) writer.writeString(productInfo.brandName());
+        if (productInfo.price() != null) writer.writeLong(productInfo.price());
+        if (productInfo.stock() != null) writer.writeLong(productInfo.stock());
+        if (productInfo.likes() != null) writer.writeLong(productInfo.likes());
+        if (productInfo.version() != null) writer.writeLong(productInfo.version());
+    }
+
+    static ProductInfo readProductInfo(CacheValueReader reader) {
+        int present = reader.readByte();
+        return new ProductInfo(
+                (present & 1) != 0 ? reader.readLong() : null,
+                (present & 1 << 1) != 0 ? reader.readString() : null,
+                (present & 1 << 2) != 0 ? reader.readLong() : null,
+                (present & 1 << 3) != 0 ? reader.readString() : null,
+                (present & 1 << 4) != 0 ? reader.readLong() : null,
+                (present & 1 << 5) != 0 ? reader.readLong() : null,
+                (present & 1 << 6) != 0 ? reader.readLong() : null,
+                (present & 1 << 7) != 0 ? reader.readLong() : null
+        );
+    }
+}
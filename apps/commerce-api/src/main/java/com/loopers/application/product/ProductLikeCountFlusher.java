@@ -0,0 +1,97 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductLikeCounter;
+import com.loopers.domain.product.ProductService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메모리에 모인 좋아요 변화량을 주기적으로 상품 테이블에 반영한다.
+ * 주기 안에 같은 상품에 들어온 좋아요/취소는 UPDATE 한 건으로 합쳐지고, 커밋 뒤 캐시 무효화도 상품당 한 번만 일어난다.
+ */
+@Slf4j
+@Component
+public class ProductLikeCountFlusher {
+
+    private final ProductLikeCounter productLikeCounter;
+    private final ProductService productService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductLikeCountFlusher(
+            ProductLikeCounter productLikeCounter,
+            ProductService productService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.productLikeCounter = productLikeCounter;
+        this.productService = productService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${product.like-counter.write-behind.flush-interval-ms:500}")
+    public void scheduledFlush() {
+        if (!productLikeCounter.isEnabled()) {
+            return;
+        }
+        flush();
+    }
+
+    /**
+     * 종료 전에 남은 변화량을 반영한다. (graceful shutdown 으로 요청 처리가 끝난 뒤 호출된다)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!productLikeCounter.isEnabled()) {
+            return;
+        }
+        flush();
+    }
+
+    public synchronized void flush() {
+        Map<Long, Long> deltas = productLikeCounter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        AtomicBoolean committed = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                markCommitted(committed);
+                productService.applyLikeDeltas(deltas);
+            });
+        } catch (Exception e) {
+            if (committed.get()) {
+                // 커밋 뒤의 처리(이벤트 리스너 등)에서 난 실패다. 이미 반영된 변화량을 되돌리면 두 번 더해진다.
+                log.warn("좋아요 수 반영 후 처리 실패: productCount={}, error={}", deltas.size(), e.getMessage());
+                return;
+            }
+            // 반영하지 못한 변화량은 되돌려 다음 주기에 다시 시도한다.
+            productLikeCounter.restore(deltas);
+            log.warn("좋아요 수 반영 실패: productCount={}, error={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    // 다른 커밋 후 콜백보다 먼저 실행되어야 그 콜백이 실패해도 커밋 여부를 알 수 있다.
+    private void markCommitted(AtomicBoolean committed) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                committed.set(true);
+            }
+        });
+    }
+}
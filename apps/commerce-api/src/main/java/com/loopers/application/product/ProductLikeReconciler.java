@@ -0,0 +1,150 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.lock.DistributedLock;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductLikeDrift;
+import com.loopers.domain.product.ProductLikeReconciliationService;
+import com.loopers.support.jpa.ReadYourWritesTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 비정규화된 상품 좋아요 수를 좋아요 테이블의 실제 건수와 맞춘다.
+ * 상품 ID 범위를 나누어 제한된 수의 스레드로 병렬 점검하고(읽기 전용 트랜잭션이라 레플리카에서 읽는다),
+ * 어긋난 상품은 write-behind 반영 주기보다 길게 기다린 뒤 주 DB 에서 다시 확인한다.
+ * 점검 시작 이후 좋아요가 생겼거나 상품 행이 갱신된 상품, 어긋난 정도가 달라진 상품은 보정하지 않는다.
+ * (아직 반영되지 않은 변화량을 건수에 포함해 보정하면 이후 반영 때 한 번 더 더해지고, 레플리카 지연도 잘못 보정될 수 있다)
+ *
+ * 여러 노드에서 같은 시각에 실행되므로 분산 잠금을 얻은 노드 한 곳에서만 점검한다.
+ */
+@Slf4j
+@Component
+public class ProductLikeReconciler {
+
+    private static final int RECHECK_BATCH_SIZE = 1000;
+    private static final String LOCK_NAME = "product-like-reconciliation";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final ProductLikeReconciliationService productLikeReconciliationService;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DistributedLock distributedLock;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long settleDelayMs;
+
+    public ProductLikeReconciler(
+            ProductLikeReconciliationService productLikeReconciliationService,
+            ReadYourWritesTracker readYourWritesTracker,
+            DistributedLock distributedLock,
+            @Value("${product.like-reconciliation.enabled:false}") boolean enabled,
+            @Value("${product.like-reconciliation.chunk-size:10000}") int chunkSize,
+            @Value("${product.like-reconciliation.parallelism:4}") int parallelism,
+            @Value("${product.like-reconciliation.settle-delay-ms:5000}") long settleDelayMs
+    ) {
+        this.productLikeReconciliationService = productLikeReconciliationService;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.distributedLock = distributedLock;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.settleDelayMs = settleDelayMs;
+    }
+
+    @Scheduled(cron = "${product.like-reconciliation.cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("상품 좋아요 수 점검 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 점검 중이면 실행하지 않고 빈 값을 반환한다.
+     */
+    public Optional<Result> reconcile() throws InterruptedException {
+        Optional<String> token = distributedLock.tryLock(LOCK_NAME, LOCK_TTL);
+        if (token.isEmpty()) {
+            log.info("다른 노드에서 상품 좋아요 수 점검 중이므로 건너뜁니다.");
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(doReconcile());
+        } finally {
+            distributedLock.unlock(LOCK_NAME, token.get());
+        }
+    }
+
+    private Result doReconcile() throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        // 레플리카가 아닌 주 DB 의 시각을 기준으로 삼는다.
+        LocalDateTime quietSince = readYourWritesTracker.readFromPrimary(productLikeReconciliationService::currentDatabaseTime);
+        long maxProductId = productLikeReconciliationService.findMaxProductId();
+
+        List<Future<List<ProductLikeDrift>>> chunks = new ArrayList<>();
+        List<ProductLikeDrift> drifts = new ArrayList<>();
+        int failedChunks = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(
+                parallelism, Thread.ofPlatform().name("product-like-reconciler-", 1).factory()
+        );
+        try {
+            for (long fromId = 1; fromId <= maxProductId; fromId += chunkSize) {
+                long from = fromId;
+                long to = Math.min(fromId + chunkSize, maxProductId + 1);
+                chunks.add(executor.submit(() -> productLikeReconciliationService.findLikeDrifts(from, to)));
+            }
+            for (Future<List<ProductLikeDrift>> chunk : chunks) {
+                try {
+                    drifts.addAll(chunk.get());
+                } catch (ExecutionException e) {
+                    // 실패한 범위는 건너뛰고 다음 점검에서 다시 확인한다.
+                    failedChunks++;
+                    log.warn("상품 좋아요 수 점검 범위 실패: error={}", e.getCause().getMessage());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!drifts.isEmpty() && settleDelayMs > 0) {
+            Thread.sleep(settleDelayMs);
+        }
+
+        int corrected = 0;
+        for (int i = 0; i < drifts.size(); i += RECHECK_BATCH_SIZE) {
+            List<ProductEntity> products = productLikeReconciliationService.correctLikes(
+                    drifts.subList(i, Math.min(i + RECHECK_BATCH_SIZE, drifts.size())), quietSince
+            );
+            corrected += products.size();
+        }
+
+        Result result = new Result(chunks.size(), failedChunks, drifts.size(), corrected);
+        log.info("상품 좋아요 수 점검 완료: maxProductId={}, result={}, elapsedMs={}",
+                maxProductId, result, System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    public record Result(
+            int chunks,
+            int failedChunks,
+            int drifted,
+            int corrected
+    ) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.loopers.application.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisCacheConfig;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductEvent;
+import com.loopers.support.cache.CacheInvalidationPublisher;
+import com.loopers.support.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 목록 캐시의 태그 관리.
+ * 목록 캐시 엔트리는 (브랜드 범위, 정렬 기준) 태그에 속하고, 키에 태그별 세대 번호를 넣는다.
+ * 상품이 바뀌면 영향을 받는 태그의 세대 번호만 올려, 이전 세대 키의 엔트리는 더 이상 조회되지 않고 TTL 로 만료된다.
+ * (KEYS 나 전체 삭제를 쓰지 않는다)
+ *
+ * 세대 번호는 DB 를 읽기 전에 키를 만들 때 정해지므로, 읽는 도중 무효화가 일어나면 이전 값은 이전 세대 키로 저장되어 조회되지 않는다.
+ *
+ * 세대 번호는 Redis 에 두되 노드마다 로컬에 캐시하여, L1 적중 시 키를 만드는 데 네트워크 왕복이 없도록 한다.
+ * 무효화한 노드는 로컬 값을 바로 지우고, 다른 노드는 캐시 무효화 채널(pub/sub)로 받아 지운 뒤 다음 조회 때 Redis 에서 다시 읽는다.
+ * 메시지를 놓쳐도 로컬 값은 L1 과 같은 TTL 뒤에 만료된다.
+ */
+@Component
+public class ProductListCache {
+
+    public static final String CACHE_NAME = "productList";
+    public static final String RESPONSE_CACHE_NAME = RedisCacheConfig.CACHE_PRODUCT_RESPONSE;
+
+    private static final String GENERATION_KEY_PREFIX = "productList:gen:";
+    // 캐시 무효화 채널에서 세대 번호 무효화를 나타내는 이름
+    private static final String GENERATION_INVALIDATION_NAME = "productList:gen";
+    private static final String ALL_BRANDS = "all";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final Cache<String, Long> generations;
+
+    public ProductListCache(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            TwoLevelCacheManager cacheManager,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            @Value("${cache.local.ttl:30s}") Duration localTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .build();
+        cacheManager.registerLocalInvalidation(GENERATION_INVALIDATION_NAME, tag -> {
+            if (tag == null) {
+                generations.invalidateAll();
+            } else {
+                generations.invalidate(tag);
+            }
+        });
+    }
+
+    /**
+     * 목록 캐시 키. 태그와 현재 세대 번호를 앞에 두어 어떤 태그의 어느 세대에 속하는지 키만 보고도 알 수 있게 한다.
+     * 태그는 첫 번째 정렬 컬럼만 나타내므로, 방향과 이후 정렬 조건까지 담은 정렬 키를 함께 넣는다.
+     */
+    public String key(ProductCriteria criteria, Pageable pageable) {
+        String tag = tag(criteria);
+        return tag + ":g" + generation(tag) + ":" + criteria.orderKey() + ":" + criteria.filterKey()
+                + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize();
+    }
+
+    /**
+     * 같은 목록의 직렬화된 응답 캐시 키. 목록 캐시 키와 같은 세대 번호를 쓰므로 함께 무효화된다.
+     */
+    public String responseKey(ProductCriteria criteria, Pageable pageable) {
+        return responseKey(key(criteria, pageable));
+    }
+
+    public static String tag(ProductCriteria criteria) {
+        return tag(brandScope(criteria), sortKey(criteria.primaryOrder()));
+    }
+
+    /**
+     * 해당 브랜드로 필터링된 목록과 브랜드 필터가 없는 목록 중, 주어진 정렬 기준의 세대 번호를 올린다.
+     */
+    public void invalidate(Long brandId, Set<ProductEvent.SortKey> sortKeys) {
+        List<String> tags = new ArrayList<>();
+        for (ProductEvent.SortKey sortKey : sortKeys) {
+            tags.add(tag(String.valueOf(brandId), sortKey));
+            tags.add(tag(ALL_BRANDS, sortKey));
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String tag : tags) {
+                connection.stringCommands().incr((GENERATION_KEY_PREFIX + tag).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        // 올린 뒤에 지워야 다음 조회가 새 세대 번호를 읽는다. (로딩 중인 값은 로딩이 끝난 뒤 지워진다)
+        generations.invalidateAll(tags);
+        tags.forEach(tag -> cacheInvalidationPublisher.publishEvict(GENERATION_INVALIDATION_NAME, tag));
+    }
+
+    private long generation(String tag) {
+        return generations.get(tag, this::loadGeneration);
+    }
+
+    // 세대 번호 키는 (브랜드 수 x 정렬 기준) 개뿐이므로 만료시키지 않는다.
+    private long loadGeneration(String tag) {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + tag);
+        return generation != null ? Long.parseLong(generation) : 0L;
+    }
+
+    private static String responseKey(String key) {
+        return "list:" + key;
+    }
+
+    private static String tag(String brandScope, ProductEvent.SortKey sortKey) {
+        return "brand:" + brandScope + ":" + sortKey.name().toLowerCase();
+    }
+
+    private static String brandScope(ProductCriteria criteria) {
+        if (criteria.criteria() != null) {
+            for (ProductCriteria.Criterion criterion : criteria.criteria()) {
+                if (criterion instanceof ProductCriteria.BrandIdEquals brandIdEquals && brandIdEquals.brandId() != null) {
+                    return String.valueOf(brandIdEquals.brandId());
+                }
+            }
+        }
+        return ALL_BRANDS;
+    }
+
+    private static ProductEvent.SortKey sortKey(ProductCriteria.Criterion order) {
+        if (order instanceof ProductCriteria.OrderByPrice) {
+            return ProductEvent.SortKey.PRICE;
+        }
+        if (order instanceof ProductCriteria.OrderByLikeCount) {
+            return ProductEvent.SortKey.LIKES;
+        }
+        return ProductEvent.SortKey.LATEST;
+    }
+}
@@ -0,0 +1,65 @@
+package com.loopers.application.product;
+
+import com.loopers.support.cache.CacheValueCodec;
+import com.loopers.support.cache.CacheValueReader;
+import com.loopers.support.cache.CacheValueWriter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 목록 캐시 값(Page&lt;ProductInfo&gt;)의 바이너리 코덱.
+ * 페이지 번호, 크기, 전체 건수와 상품 목록만 쓴다. 정렬 정보는 캐시 키에 포함되어 있으므로 저장하지 않는다.
+ */
+@Component
+public class ProductPageCacheCodec implements CacheValueCodec {
+
+    static final byte ID = 2;
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        if (!(value instanceof Page<?> page) || page.getPageable().isUnpaged()) {
+            return false;
+        }
+        for (Object content : page.getContent()) {
+            if (!(content instanceof ProductInfo)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void write(Object value, CacheValueWriter writer) {
+        Page<?> page = (Page<?>) value;
+        writer.writeLong(page.getNumber());
+        writer.writeLong(page.getSize());
+        writer.writeLong(page.getTotalElements());
+        writer.writeLong(page.getNumberOfElements());
+        for (Object content : page.getContent()) {
+            ProductInfoCacheCodec.write((ProductInfo) content, writer);
+        }
+    }
+
+    @Override
+    public Object read(CacheValueReader reader) {
+        int pageNumber = (int) reader.readLong();
+        int pageSize = (int) reader.readLong();
+        long totalElements = reader.readLong();
+        int count = (int) reader.readLong();
+        List<ProductInfo> content = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            content.add(ProductInfoCacheCodec.readProductInfo(reader));
+        }
+        return new PageImpl<>(content, PageRequest.of(pageNumber, pageSize), totalElements);
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRankingService;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 좋아요 랭킹 채우기가 끝나지 않았으면 DB 의 상품을 ID 순으로 나누어 읽어 채우고, 끝나면 완료를 표시한다.
+ * 이미 랭킹에 있는 상품은 건드리지 않으므로 기동 중에 들어온 좋아요 변경을 덮어쓰지 않고,
+ * 중간에 실패하거나 종료되어도 다음 기동 때 처음부터 다시 채운다. 완료 전까지 좋아요 순 조회는 DB 정렬로 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingInitializer {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ProductService productService;
+    private final ProductRankingService productRankingService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (productRankingService.isReady()) {
+                return;
+            }
+
+            long lastId = 0L;
+            long loaded = 0L;
+            List<ProductEntity> chunk;
+            do {
+                chunk = productService.findChunkAfter(lastId, CHUNK_SIZE);
+                productRankingService.saveAllIfAbsent(chunk);
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                    loaded += chunk.size();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+            productRankingService.markReady();
+
+            log.info("상품 좋아요 랭킹 초기화 완료: count={}", loaded);
+        } catch (Exception e) {
+            // 완료 표시가 없으면 좋아요 순 조회는 DB 정렬로 동작하므로 기동을 막지 않는다.
+            log.warn("상품 좋아요 랭킹 초기화 실패: error={}", e.getMessage());
+        }
+    }
+}
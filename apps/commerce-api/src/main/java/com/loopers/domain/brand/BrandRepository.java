@@ -1,9 +1,12 @@
 package com.loopers.domain.brand;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BrandRepository {
     BrandEntity save(BrandEntity brand);
     Optional<BrandEntity> find(Long brandId);
+    List<BrandEntity> findAllByIds(Collection<Long> brandIds);
 
 }
@@ -4,7 +4,10 @@ import com.loopers.application.brand.BrandInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -17,6 +20,18 @@ public class BrandService {
         return brandRepository.find(brandId);
     }
 
+    /**
+     * 여러 브랜드의 이름을 IN 쿼리 한 번으로 조회한다. (목록 페이지의 N+1 방지)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> findNames(Collection<Long> brandIds) {
+        if (brandIds == null || brandIds.isEmpty()) {
+            return Map.of();
+        }
+        return brandRepository.findAllByIds(brandIds).stream()
+                .collect(Collectors.toMap(BrandEntity::getId, BrandEntity::getName));
+    }
+
     @Transactional(readOnly = true)
     public BrandEntity getBrand(Long brandId) {
         return brandRepository.find(brandId)
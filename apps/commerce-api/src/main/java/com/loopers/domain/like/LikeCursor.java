@@ -0,0 +1,40 @@
+package com.loopers.domain.like;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 좋아요 목록 커서. 마지막으로 조회한 좋아요 ID 를 Base64 로 인코딩된 불투명 문자열로 전달한다.
+ * 좋아요 ID 는 시간순으로 증가하므로 ID 역순이 최근 좋아요 순이다.
+ */
+public record LikeCursor(
+        Long id
+) {
+    public LikeCursor {
+        if (id == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 첫 페이지 요청처럼 커서가 없으면 null 을 반환한다.
+     */
+    public static LikeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new LikeCursor(Long.parseLong(decoded));
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,7 @@
 package com.loopers.domain.like;
 
 import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TimeOrderedId;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.persistence.Column;
@@ -12,6 +13,7 @@ import lombok.Getter;
 
 @Getter
 @Entity
+@TimeOrderedId
 @Table(
     name = "likes", 
     uniqueConstraints = {
@@ -0,0 +1,10 @@
+package com.loopers.domain.like;
+
+/**
+ * 좋아요 추가 결과. 이미 좋아요한 상태였다면 inserted 는 false 이고 likeId 는 기존 좋아요의 ID 이다.
+ */
+public record LikeInsertResult(
+        Long likeId,
+        boolean inserted
+) {
+}
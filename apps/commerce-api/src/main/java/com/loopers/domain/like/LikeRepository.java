@@ -1,5 +1,7 @@
 package com.loopers.domain.like;
 
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -7,7 +9,14 @@ public interface LikeRepository {
     LikeEntity save(LikeEntity like);
     Optional<LikeEntity> findByUserIdAndProductId(Long userId, Long productId);
     void delete(LikeEntity like);
+
+    // (user_id, product_id) 유니크 제약을 이용해 조회 없이 한 문장으로 추가/삭제한다.
+    LikeInsertResult insertIfAbsent(Long userId, Long productId);
+    boolean deleteByUserIdAndProductId(Long userId, Long productId);
+
     List<LikeEntity> findByUserId(Long userId);
+    List<Long> findProductIdsByUserId(Long userId);
+    Slice<LikeEntity> findByUserIdAndCursor(Long userId, LikeCursor cursor, int size);
     
     // 비정규화를 위한 추가 메서드들
     List<LikeEntity> findByProductId(Long productId);
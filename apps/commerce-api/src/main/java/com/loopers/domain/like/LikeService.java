@@ -3,6 +3,7 @@ package com.loopers.domain.like;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,12 +36,27 @@ public class LikeService {
                 });
     }
     
+    /**
+     * 조회 없이 한 문장으로 좋아요를 추가한다. 실제로 추가됐는지는 영향받은 행 수로 판단한다.
+     */
+    @Transactional
+    public LikeInsertResult addLike(LikeCommand.Create command) {
+        return likeRepository.insertIfAbsent(command.userId(), command.productId());
+    }
+
+    /**
+     * 조회 없이 한 문장으로 좋아요를 삭제한다. 실제로 삭제된 행이 있으면 true 를 반환한다.
+     */
+    @Transactional
+    public boolean cancelLike(Long userId, Long productId) {
+        return likeRepository.deleteByUserIdAndProductId(userId, productId);
+    }
+
     @Transactional
     public void removeLike(Long userId, Long productId) {
-        LikeEntity likeEntity = likeRepository.findByUserIdAndProductId(userId, productId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "좋아요를 찾을 수 없습니다."));
-        
-        likeRepository.delete(likeEntity);
+        if (!likeRepository.deleteByUserIdAndProductId(userId, productId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "좋아요를 찾을 수 없습니다.");
+        }
     }
 
     @Transactional(readOnly = true)
@@ -48,6 +64,16 @@ public class LikeService {
         return likeRepository.findByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
+    public List<Long> findLikedProductIds(Long userId) {
+        return likeRepository.findProductIdsByUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<LikeEntity> findByUserIdAndCursor(Long userId, LikeCursor cursor, int size) {
+        return likeRepository.findByUserIdAndCursor(userId, cursor, size);
+    }
+
     @Transactional(readOnly = true)
     public List<LikeEntity> findByProductId(Long productId) {
         return likeRepository.findByProductId(productId);
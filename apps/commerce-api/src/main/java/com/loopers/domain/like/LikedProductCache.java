@@ -0,0 +1,33 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별로 좋아요한 상품 ID 집합을 담아 두는 캐시.
+ * 목록 화면의 상품마다 좋아요 여부를 DB 조회 없이 한 번에 확인하기 위해 사용한다.
+ */
+public interface LikedProductCache {
+
+    /**
+     * 상품별 좋아요 여부를 조회한다. 해당 사용자의 집합이 아직 적재되지 않았으면 빈 값을 반환한다.
+     */
+    Optional<Map<Long, Boolean>> findFlags(Long userId, List<Long> productIds);
+
+    /**
+     * DB 를 읽기 전에 호출하여 적재에 쓸 버전을 얻는다. 좋아요/취소가 반영될 때마다 버전이 바뀐다.
+     */
+    long currentVersion(Long userId);
+
+    /**
+     * 버전이 그대로일 때만 적재한다. DB 를 읽는 동안 좋아요/취소가 반영되었으면 적재하지 않는다.
+     */
+    void load(Long userId, long version, Collection<Long> likedProductIds);
+
+    // 좋아요/취소가 커밋된 뒤 집합에 반영한다.
+    void add(Long userId, Long productId);
+
+    void remove(Long userId, Long productId);
+}
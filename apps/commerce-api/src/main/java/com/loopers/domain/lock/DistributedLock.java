@@ -0,0 +1,18 @@
+package com.loopers.domain.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행되어야 하는 작업(배치, 초기화 등)을 위한 잠금.
+ */
+public interface DistributedLock {
+
+    /**
+     * 잠금 획득을 시도한다. 성공하면 해제에 사용할 토큰을, 이미 다른 곳이 잡고 있으면 빈 값을 반환한다.
+     * 해제하지 못해도 ttl 이 지나면 풀린다.
+     */
+    Optional<String> tryLock(String name, Duration ttl);
+
+    void unlock(String name, String token);
+}
@@ -1,12 +1,14 @@
 package com.loopers.domain.order;
 
 import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TimeOrderedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import lombok.Getter;
 
 @Getter
 @Entity
+@TimeOrderedId
 @Table(name = "order_items")
 public class OrderItemEntity extends BaseEntity {
     
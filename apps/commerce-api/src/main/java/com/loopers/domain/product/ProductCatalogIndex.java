@@ -0,0 +1,615 @@
+package com.loopers.domain.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 삭제되지 않은 상품을 컬럼별 primitive 배열로 들고 있는 메모리 인덱스.
+ * 목록 조회의 검색 조건(브랜드, 가격, 재고, 좋아요)과 정렬 조건이 모두 숫자 컬럼이라
+ * DB 를 거치지 않고 필터링, 정렬, 페이징을 처리하고 페이지에 포함된 상품 ID 와 전체 건수를 반환한다.
+ * 상품명 검색은 n-gram 역색인(ProductNameIndex)으로 후보를 좁힌 뒤 소문자 상품명으로 확인한다.
+ * 아직 적재 전이면 빈 값을 반환하여 DB 조회로 넘긴다.
+ *
+ * 변경은 lock 안에서 한 스레드씩 반영하고, 조회는 volatile 로 공개된 View 를 lock 없이 읽는다.
+ * 컬럼은 PAGE_SIZE 행 단위 페이지로 나누어 두고, 이미 공개된 View 가 참조하는 페이지와 비트맵은 복사한 뒤 바꾼다. (copy-on-write)
+ * 따라서 조회 중인 View 의 값은 바뀌지 않아 정렬 힙의 비교 결과가 흔들리지 않고, 변경 한 번에 복사되는 양은 페이지 하나 정도다.
+ *
+ * 좋아요 수는 이벤트의 likesVersion 이 저장된 값보다 클 때만 반영하여, 순서가 바뀌어 도착한 이전 값이 최신 값을 덮지 않게 한다.
+ * 재고는 차감만 되므로 더 작은 값만 반영한다. (재고를 늘리는 변경이 생기면 버전을 함께 실어야 한다)
+ *
+ * 브랜드 필터나 상품명 검색이 없는 조회는 살아 있는 상품을 모두 한 번씩 비교하므로 비용이 상품 수에 비례한다.
+ * 수십만 건이면 요청 하나에 밀리초 단위가 걸리므로, 인덱스가 없어지는 것은 DB 정렬과 COUNT 쿼리이지 조회 비용 자체가 아니다.
+ */
+@Component
+public class ProductCatalogIndex {
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final boolean enabled;
+    private final Object lock = new Object();
+
+    // lock 안에서만 접근한다.
+    private Columns columns;
+    private List<Consumer<Columns>> pendingChanges;
+
+    private volatile View view;
+
+    public ProductCatalogIndex(@Value("${product.catalog-index.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return view != null;
+    }
+
+    /**
+     * 인덱스로 조회할 수 있으면 페이지에 포함된 상품 ID 를 정렬 순서대로, 전체 건수와 함께 반환한다.
+     */
+    public Optional<SearchResult> search(ProductCriteria criteria, long offset, int limit) {
+        View current = view;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(criteria, offset, limit));
+    }
+
+    /**
+     * 전체 재적재를 시작한다. 적재가 끝나 publish 될 때까지 들어온 변경은 새 인덱스에 다시 반영된다.
+     */
+    public Loader beginLoad() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+        return new Loader();
+    }
+
+    public void upsert(ProductEntity product) {
+        if (product.getDeletedAt() != null) {
+            remove(product.getId());
+            return;
+        }
+        Row row = Row.from(product);
+        apply(target -> target.upsert(row));
+    }
+
+    public void remove(Long productId) {
+        apply(target -> target.remove(productId));
+    }
+
+    public void updateLikes(Long productId, Long likes, Long likesVersion) {
+        long value = likes != null ? likes : 0L;
+        long version = likesVersion != null ? likesVersion : 0L;
+        apply(target -> target.updateLikes(productId, value, version));
+    }
+
+    public void updateStock(Long productId, Long stock) {
+        long value = stock != null ? stock : 0L;
+        apply(target -> target.updateStock(productId, value));
+    }
+
+    private void apply(Consumer<Columns> change) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            if (columns != null) {
+                change.accept(columns);
+                view = columns.view();
+            }
+        }
+    }
+
+    public record SearchResult(List<Long> productIds, long totalCount) {}
+
+    /**
+     * 재적재용 빌더. 호출한 스레드에서 lock 없이 채운 뒤 publish 로 한 번에 교체한다.
+     */
+    public class Loader {
+
+        private final Columns loading = new Columns();
+
+        public void add(ProductEntity product) {
+            if (product.getDeletedAt() == null) {
+                loading.upsert(Row.from(product));
+            }
+        }
+
+        public int size() {
+            return loading.size;
+        }
+
+        public void publish() {
+            synchronized (lock) {
+                if (pendingChanges != null) {
+                    pendingChanges.forEach(change -> change.accept(loading));
+                }
+                pendingChanges = null;
+                columns = loading;
+                view = loading.view();
+            }
+        }
+    }
+
+    private record Row(long id, String name, long brandId, long price, long stock, long likes, long likesVersion, long createdAt) {
+
+        static Row from(ProductEntity product) {
+            return new Row(
+                    product.getId(),
+                    product.getName().toLowerCase(Locale.ROOT),
+                    product.getBrandId(),
+                    product.getPrice(),
+                    product.getStock(),
+                    product.getLikes() != null ? product.getLikes() : 0L,
+                    product.getLikesVersion() != null ? product.getLikesVersion() : 0L,
+                    epochMicros(product.getCreatedAt())
+            );
+        }
+
+        // 커서와 같은 마이크로초 단위로 비교한다.
+        private static long epochMicros(ZonedDateTime createdAt) {
+            if (createdAt == null) {
+                return 0L;
+            }
+            Instant instant = createdAt.toInstant();
+            return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000L;
+        }
+    }
+
+    /**
+     * 쓰기용 컬럼 저장소. 한 번에 한 스레드만 변경한다.
+     * 마지막 View 공개 이후 새로 만든 배열만 owned 에 두고 그대로 고치며, 그 밖의 배열은 공개된 View 와 공유하므로 복사해서 고친다.
+     */
+    private static final class Columns {
+
+        private int size;
+        private long[][] ids = new long[0][];
+        private String[][] names = new String[0][];
+        private long[][] prices = new long[0][];
+        private long[][] stocks = new long[0][];
+        private long[][] likes = new long[0][];
+        private long[][] likesVersions = new long[0][];
+        private long[][] createdAts = new long[0][];
+        private int[][] brandOrdinals = new int[0][];
+        private long[] alive = new long[0];
+        private long[][] brandBitmaps = new long[0][];
+        private Map<Long, Integer> brandOrdinalById = Map.of();
+        private final Map<Long, Integer> positions = new HashMap<>();
+        private final ProductNameIndex nameIndex = new ProductNameIndex();
+        private final Set<Object> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        void upsert(Row row) {
+            Integer position = positions.get(row.id());
+            int brand = brandOrdinal(row.brandId());
+            if (position == null) {
+                ensureCapacity(size + 1);
+                position = size;
+                ids = writable(ids, page(position), long[]::clone);
+                ids[page(position)][offset(position)] = row.id();
+                positions.put(row.id(), position);
+                size++;
+            } else {
+                int previousBrand = brandOrdinals[page(position)][offset(position)];
+                if (previousBrand != brand) {
+                    brandBitmaps = writable(brandBitmaps, previousBrand, long[]::clone);
+                    clearBit(brandBitmaps[previousBrand], position);
+                }
+            }
+
+            int page = page(position);
+            int offset = offset(position);
+            if (!row.name().equals(names[page][offset])) {
+                names = writable(names, page, String[]::clone);
+                names[page][offset] = row.name();
+                nameIndex.add(position, row.name());
+            }
+            prices = writable(prices, page, long[]::clone);
+            prices[page][offset] = row.price();
+            stocks = writable(stocks, page, long[]::clone);
+            stocks[page][offset] = row.stock();
+            // 적재 이후에 더 새로운 좋아요 수가 반영되어 있으면 유지한다.
+            if (row.likesVersion() >= likesVersions[page][offset]) {
+                likes = writable(likes, page, long[]::clone);
+                likes[page][offset] = row.likes();
+                likesVersions = writable(likesVersions, page, long[]::clone);
+                likesVersions[page][offset] = row.likesVersion();
+            }
+            createdAts = writable(createdAts, page, long[]::clone);
+            createdAts[page][offset] = row.createdAt();
+            brandOrdinals = writable(brandOrdinals, page, int[]::clone);
+            brandOrdinals[page][offset] = brand;
+            brandBitmaps = writable(brandBitmaps, brand, long[]::clone);
+            setBit(brandBitmaps[brand], position);
+            alive = writable(alive);
+            setBit(alive, position);
+        }
+
+        void remove(Long productId) {
+            Integer position = positions.get(productId);
+            if (position != null) {
+                alive = writable(alive);
+                clearBit(alive, position);
+            }
+        }
+
+        void updateLikes(Long productId, long value, long version) {
+            Integer position = positions.get(productId);
+            if (position == null) {
+                return;
+            }
+            int page = page(position);
+            int offset = offset(position);
+            if (version <= likesVersions[page][offset]) {
+                return;
+            }
+            likes = writable(likes, page, long[]::clone);
+            likes[page][offset] = value;
+            likesVersions = writable(likesVersions, page, long[]::clone);
+            likesVersions[page][offset] = version;
+        }
+
+        void updateStock(Long productId, long value) {
+            Integer position = positions.get(productId);
+            if (position == null) {
+                return;
+            }
+            int page = page(position);
+            int offset = offset(position);
+            if (value >= stocks[page][offset]) {
+                return;
+            }
+            stocks = writable(stocks, page, long[]::clone);
+            stocks[page][offset] = value;
+        }
+
+        View view() {
+            View view = new View(size, ids, names, prices, stocks, likes, createdAts, brandOrdinals, alive, brandBitmaps,
+                    brandOrdinalById, nameIndex);
+            // 이제 모든 배열을 View 와 공유하므로 다음 변경부터는 복사한다.
+            owned.clear();
+            return view;
+        }
+
+        /**
+         * 바꿀 수 있는 바깥 배열과 페이지를 반환한다. 공유 중인 배열이면 복사본을 만들어 owned 에 넣는다.
+         */
+        private <P> P[] writable(P[] column, int page, UnaryOperator<P> copy) {
+            P[] result = column;
+            if (!owned.contains(result)) {
+                result = result.clone();
+                owned.add(result);
+            }
+            if (!owned.contains(result[page])) {
+                result[page] = copy.apply(result[page]);
+                owned.add(result[page]);
+            }
+            return result;
+        }
+
+        private long[] writable(long[] bitmap) {
+            if (owned.contains(bitmap)) {
+                return bitmap;
+            }
+            long[] copied = bitmap.clone();
+            owned.add(copied);
+            return copied;
+        }
+
+        private int brandOrdinal(long brandId) {
+            Integer ordinal = brandOrdinalById.get(brandId);
+            if (ordinal != null) {
+                return ordinal;
+            }
+            // 공개된 View 가 참조하는 맵과 배열은 바꾸지 않고 복사본을 만든다.
+            int newOrdinal = brandBitmaps.length;
+            Map<Long, Integer> copied = new HashMap<>(brandOrdinalById);
+            copied.put(brandId, newOrdinal);
+            brandOrdinalById = Map.copyOf(copied);
+            brandBitmaps = Arrays.copyOf(brandBitmaps, newOrdinal + 1);
+            brandBitmaps[newOrdinal] = new long[alive.length];
+            owned.add(brandBitmaps);
+            owned.add(brandBitmaps[newOrdinal]);
+            return newOrdinal;
+        }
+
+        // 페이지 단위로 늘린다. 기존 페이지는 그대로 공유하고 바깥 배열과 새 페이지만 만든다.
+        private void ensureCapacity(int required) {
+            int pages = (required + PAGE_SIZE - 1) >>> PAGE_BITS;
+            if (pages <= ids.length) {
+                return;
+            }
+            ids = grow(ids, pages, () -> new long[PAGE_SIZE]);
+            names = grow(names, pages, () -> new String[PAGE_SIZE]);
+            prices = grow(prices, pages, () -> new long[PAGE_SIZE]);
+            stocks = grow(stocks, pages, () -> new long[PAGE_SIZE]);
+            likes = grow(likes, pages, () -> new long[PAGE_SIZE]);
+            likesVersions = grow(likesVersions, pages, () -> new long[PAGE_SIZE]);
+            createdAts = grow(createdAts, pages, () -> new long[PAGE_SIZE]);
+            brandOrdinals = grow(brandOrdinals, pages, () -> new int[PAGE_SIZE]);
+
+            int words = words(pages << PAGE_BITS);
+            alive = Arrays.copyOf(alive, words);
+            owned.add(alive);
+            long[][] grown = new long[brandBitmaps.length][];
+            for (int i = 0; i < brandBitmaps.length; i++) {
+                grown[i] = Arrays.copyOf(brandBitmaps[i], words);
+                owned.add(grown[i]);
+            }
+            brandBitmaps = grown;
+            owned.add(brandBitmaps);
+        }
+
+        private <P> P[] grow(P[] column, int pages, Supplier<P> newPage) {
+            P[] grown = Arrays.copyOf(column, pages);
+            for (int i = column.length; i < pages; i++) {
+                grown[i] = newPage.get();
+                owned.add(grown[i]);
+            }
+            owned.add(grown);
+            return grown;
+        }
+    }
+
+    /**
+     * 조회용 스냅샷. size 까지의 행만 읽으며, 참조하는 배열은 공개된 뒤 바뀌지 않는다.
+     */
+    private record View(
+            int size,
+            long[][] ids,
+            String[][] names,
+            long[][] prices,
+            long[][] stocks,
+            long[][] likes,
+            long[][] createdAts,
+            int[][] brandOrdinals,
+            long[] alive,
+            long[][] brandBitmaps,
+            Map<Long, Integer> brandOrdinalById,
+            ProductNameIndex nameIndex
+    ) {
+
+        SearchResult search(ProductCriteria criteria, long offset, int limit) {
+            long[] candidates = alive;
+            int brand = -1;
+            String name = null;
+            long minPrice = Long.MIN_VALUE;
+            long maxPrice = Long.MAX_VALUE;
+            long minStockExclusive = Long.MIN_VALUE;
+            long minLikesExclusive = Long.MIN_VALUE;
+            List<ProductCriteria.Criterion> orders = new ArrayList<>();
+
+            if (criteria != null && criteria.criteria() != null) {
+                for (ProductCriteria.Criterion criterion : criteria.criteria()) {
+                    if (criterion instanceof ProductCriteria.BrandIdEquals brandIdEquals && brandIdEquals.brandId() != null) {
+                        Integer ordinal = brandOrdinalById.get(brandIdEquals.brandId());
+                        if (ordinal == null) {
+                            return new SearchResult(List.of(), 0L);
+                        }
+                        brand = ordinal;
+                        candidates = brandBitmaps[ordinal];
+                    } else if (criterion instanceof ProductCriteria.NameContains nameContains && StringUtils.hasText(nameContains.name())) {
+                        name = nameContains.name().toLowerCase(Locale.ROOT);
+                    } else if (criterion instanceof ProductCriteria.PriceRange priceRange) {
+                        if (priceRange.minPrice() != null) {
+                            minPrice = priceRange.minPrice();
+                        }
+                        if (priceRange.maxPrice() != null) {
+                            maxPrice = priceRange.maxPrice();
+                        }
+                    } else if (criterion instanceof ProductCriteria.StockGreaterThan stockGreaterThan && stockGreaterThan.stock() != null) {
+                        minStockExclusive = stockGreaterThan.stock();
+                    } else if (criterion instanceof ProductCriteria.LikesGreaterThan likesGreaterThan && likesGreaterThan.likes() != null) {
+                        minLikesExclusive = likesGreaterThan.likes();
+                    } else if (criterion instanceof ProductCriteria.OrderByCreatedAt
+                            || criterion instanceof ProductCriteria.OrderByPrice
+                            || criterion instanceof ProductCriteria.OrderByLikeCount) {
+                        orders.add(criterion);
+                    }
+                }
+            }
+            if (orders.isEmpty()) {
+                orders.add(new ProductCriteria.OrderByCreatedAt(false));
+            }
+
+            int keep = (int) Math.min(offset + limit, Integer.MAX_VALUE);
+            TopK topK = new TopK(keep, orders);
+            long totalCount = 0L;
+
+            if (name != null) {
+                // 상품명 조건이 있으면 전체 대신 n-gram 후보만 확인한다.
+                for (int position : nameIndex.candidates(name)) {
+                    if (position >= size) {
+                        break;
+                    }
+                    if (!isSet(alive, position)
+                            || (brand >= 0 && brandOrdinals[page(position)][offset(position)] != brand)
+                            || !names[page(position)][offset(position)].contains(name)
+                            || !matches(position, minPrice, maxPrice, minStockExclusive, minLikesExclusive)) {
+                        continue;
+                    }
+                    totalCount++;
+                    topK.offer(position);
+                }
+            } else {
+                int wordCount = words(size);
+                for (int w = 0; w < wordCount; w++) {
+                    long word = candidates[w] & alive[w];
+                    while (word != 0) {
+                        int position = (w << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                        if (position >= size) {
+                            break;
+                        }
+                        if (!matches(position, minPrice, maxPrice, minStockExclusive, minLikesExclusive)) {
+                            continue;
+                        }
+                        totalCount++;
+                        topK.offer(position);
+                    }
+                }
+            }
+
+            int[] sorted = topK.sorted();
+            List<Long> productIds = new ArrayList<>(limit);
+            for (int i = (int) Math.min(offset, sorted.length); i < sorted.length; i++) {
+                productIds.add(ids[page(sorted[i])][offset(sorted[i])]);
+            }
+            return new SearchResult(productIds, totalCount);
+        }
+
+        private boolean matches(int position, long minPrice, long maxPrice, long minStockExclusive, long minLikesExclusive) {
+            int page = page(position);
+            int offset = offset(position);
+            long price = prices[page][offset];
+            return price >= minPrice && price <= maxPrice
+                    && stocks[page][offset] > minStockExclusive
+                    && likes[page][offset] > minLikesExclusive;
+        }
+
+        /**
+         * a 가 b 보다 앞에 와야 하면 음수. 정렬 값이 모두 같으면 최신 ID 를 앞에 둔다.
+         */
+        int compare(int a, int b, List<ProductCriteria.Criterion> orders) {
+            int pageA = page(a);
+            int offsetA = offset(a);
+            int pageB = page(b);
+            int offsetB = offset(b);
+            for (ProductCriteria.Criterion order : orders) {
+                int result = 0;
+                if (order instanceof ProductCriteria.OrderByCreatedAt orderByCreatedAt) {
+                    result = Long.compare(createdAts[pageA][offsetA], createdAts[pageB][offsetB]);
+                    result = orderByCreatedAt.ascending() ? result : -result;
+                } else if (order instanceof ProductCriteria.OrderByPrice orderByPrice) {
+                    result = Long.compare(prices[pageA][offsetA], prices[pageB][offsetB]);
+                    result = orderByPrice.ascending() ? result : -result;
+                } else if (order instanceof ProductCriteria.OrderByLikeCount) {
+                    result = -Long.compare(likes[pageA][offsetA], likes[pageB][offsetB]);
+                }
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return -Long.compare(ids[pageA][offsetA], ids[pageB][offsetB]);
+        }
+
+        /**
+         * 앞에서부터 k 개만 유지하는 힙. 루트에 현재 k 개 중 가장 뒤에 올 행을 둔다.
+         */
+        private final class TopK {
+
+            private final int[] heap;
+            private final List<ProductCriteria.Criterion> orders;
+            private int count;
+
+            TopK(int k, List<ProductCriteria.Criterion> orders) {
+                this.heap = new int[Math.min(k, size)];
+                this.orders = orders;
+            }
+
+            void offer(int position) {
+                if (heap.length == 0) {
+                    return;
+                }
+                if (count < heap.length) {
+                    heap[count] = position;
+                    siftUp(count++);
+                } else if (compare(position, heap[0], orders) < 0) {
+                    heap[0] = position;
+                    siftDown(0);
+                }
+            }
+
+            int[] sorted() {
+                int[] result = new int[count];
+                for (int i = count - 1; i >= 0; i--) {
+                    result[i] = heap[0];
+                    heap[0] = heap[--count];
+                    siftDown(0);
+                }
+                return result;
+            }
+
+            private void siftUp(int index) {
+                while (index > 0) {
+                    int parent = (index - 1) >>> 1;
+                    if (compare(heap[index], heap[parent], orders) <= 0) {
+                        return;
+                    }
+                    swap(index, parent);
+                    index = parent;
+                }
+            }
+
+            private void siftDown(int index) {
+                while (true) {
+                    int left = index * 2 + 1;
+                    if (left >= count) {
+                        return;
+                    }
+                    int right = left + 1;
+                    int last = right < count && compare(heap[right], heap[left], orders) > 0 ? right : left;
+                    if (compare(heap[last], heap[index], orders) <= 0) {
+                        return;
+                    }
+                    swap(index, last);
+                    index = last;
+                }
+            }
+
+            private void swap(int i, int j) {
+                int temp = heap[i];
+                heap[i] = heap[j];
+                heap[j] = temp;
+            }
+        }
+    }
+
+    private static int page(int position) {
+        return position >>> PAGE_BITS;
+    }
+
+    private static int offset(int position) {
+        return position & PAGE_MASK;
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void setBit(long[] bitmap, int position) {
+        bitmap[position >>> 6] |= 1L << position;
+    }
+
+    private static boolean isSet(long[] bitmap, int position) {
+        return (bitmap[position >>> 6] & (1L << position)) != 0;
+    }
+
+    private static void clearBit(long[] bitmap, int position) {
+        bitmap[position >>> 6] &= ~(1L << position);
+    }
+}
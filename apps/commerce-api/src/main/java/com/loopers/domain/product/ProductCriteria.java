@@ -1,6 +1,7 @@
 package com.loopers.domain.product;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 public record ProductCriteria(
         List<Criterion> criteria
@@ -19,6 +20,61 @@ public record ProductCriteria(
     public record StockGreaterThan(Long stock) implements Criterion {}
     public record LikesGreaterThan(Long likes) implements Criterion {}
 
+    /**
+     * 첫 번째 정렬 조건을 반환한다. 정렬 조건이 없으면 최신순을 기본으로 한다.
+     */
+    public Criterion primaryOrder() {
+        if (criteria != null) {
+            for (Criterion criterion : criteria) {
+                if (isOrder(criterion)) {
+                    return criterion;
+                }
+            }
+        }
+        return new OrderByCreatedAt(false);
+    }
+
+    /**
+     * 정렬 조건을 제외한 검색 조건만으로 만든 키. 조건 순서와 무관하게 같은 값을 반환한다.
+     */
+    public String filterKey() {
+        if (criteria == null) {
+            return "";
+        }
+        return criteria.stream()
+                .filter(criterion -> !isOrder(criterion))
+                .map(Criterion::toString)
+                .sorted()
+                .collect(Collectors.joining("|"));
+    }
+
+    /**
+     * 정렬 조건만 적힌 순서대로 나열한 키. 정렬 컬럼과 방향을 모두 담는다. 정렬 조건이 없으면 기본 정렬(최신순)을 반환한다.
+     */
+    public String orderKey() {
+        List<String> orders = criteria == null ? List.of() : criteria.stream()
+                .filter(ProductCriteria::isOrder)
+                .map(ProductCriteria::orderKey)
+                .toList();
+        return orders.isEmpty() ? orderKey(primaryOrder()) : String.join(",", orders);
+    }
+
+    private static String orderKey(Criterion order) {
+        if (order instanceof OrderByCreatedAt orderByCreatedAt) {
+            return "createdAt:" + (orderByCreatedAt.ascending() ? "asc" : "desc");
+        }
+        if (order instanceof OrderByPrice orderByPrice) {
+            return "price:" + (orderByPrice.ascending() ? "asc" : "desc");
+        }
+        return "likes:desc";
+    }
+
+    private static boolean isOrder(Criterion criterion) {
+        return criterion instanceof OrderByCreatedAt
+                || criterion instanceof OrderByPrice
+                || criterion instanceof OrderByLikeCount;
+    }
+
     //정적 팩토리 메서드
     public static ProductCriteria orderByCreatedAt(boolean ascending) {
         return new ProductCriteria(List.of(new OrderByCreatedAt(ascending)));
@@ -0,0 +1,73 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 마지막으로 조회한 (정렬 키, 상품 ID) 쌍.
+ * 클라이언트에는 Base64 로 인코딩된 불투명 문자열로 전달한다.
+ * 생성일시 정렬의 경우 정렬 키는 epoch 기준 마이크로초 값이다.
+ */
+public record ProductCursor(
+        Long sortValue,
+        Long id
+) {
+    private static final String DELIMITER = ":";
+
+    public ProductCursor {
+        if (sortValue == null || id == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static ProductCursor from(ProductEntity product, ProductCriteria.Criterion order) {
+        Long sortValue;
+        if (order instanceof ProductCriteria.OrderByPrice) {
+            sortValue = product.getPrice();
+        } else if (order instanceof ProductCriteria.OrderByLikeCount) {
+            sortValue = product.getLikes();
+        } else {
+            sortValue = toEpochMicros(product.getCreatedAt());
+        }
+        return new ProductCursor(sortValue, product.getId());
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 첫 페이지 요청처럼 커서가 없으면 null 을 반환한다.
+     */
+    public static ProductCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER);
+            if (tokens.length != 2) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+            }
+            return new ProductCursor(Long.parseLong(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ZonedDateTime sortValueAsCreatedAt() {
+        return Instant.EPOCH.plus(sortValue, ChronoUnit.MICROS).atZone(ZoneOffset.UTC);
+    }
+
+    private static long toEpochMicros(ZonedDateTime dateTime) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.toInstant());
+    }
+}
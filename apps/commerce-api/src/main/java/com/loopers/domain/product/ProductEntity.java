@@ -15,8 +15,14 @@ import lombok.Getter;
     name = "product",
     indexes = {
         @Index(name = "idx_product_brand_id", columnList = "brand_id"),
-        @Index(name = "idx_product_likes", columnList = "likes"),
-        @Index(name = "idx_product_brand_likes", columnList = "brand_id,likes")
+        // 목록 조회는 항상 deleted_at IS NULL 조건이 붙으므로, 정렬 컬럼 앞에 두어 ID 조회가 인덱스만으로 끝나도록 한다.
+        // 운영 DB 는 ddl-auto: none 이므로 변경 시 scripts/ddl 에 마이그레이션을 함께 추가한다.
+        @Index(name = "idx_product_deleted_likes", columnList = "deleted_at,likes"),
+        @Index(name = "idx_product_deleted_created_at", columnList = "deleted_at,created_at"),
+        @Index(name = "idx_product_deleted_price", columnList = "deleted_at,price"),
+        @Index(name = "idx_product_brand_deleted_likes", columnList = "brand_id,deleted_at,likes"),
+        @Index(name = "idx_product_brand_deleted_created_at", columnList = "brand_id,deleted_at,created_at"),
+        @Index(name = "idx_product_brand_deleted_price", columnList = "brand_id,deleted_at,price")
     }
 )
 public class ProductEntity extends BaseEntity {
@@ -36,6 +42,10 @@ public class ProductEntity extends BaseEntity {
     @Column(name = "likes", nullable = false)
     private Long likes;
 
+    // 좋아요 수가 바뀔 때마다 1 씩 늘어난다. 이벤트를 받는 쪽에서 순서가 바뀐 이전 값을 걸러내는 데 쓴다.
+    @Column(name = "likes_version", nullable = false, columnDefinition = "bigint default 0")
+    private Long likesVersion;
+
     public static ProductEntity from(ProductCommand.Create command) {
         return new ProductEntity(
                 command.name(),
@@ -67,15 +77,18 @@ public class ProductEntity extends BaseEntity {
         this.price = price;
         this.stock = stock;
         this.likes = likes != null ? likes : 0L;
+        this.likesVersion = 0L;
     }
 
     public void incrementLikes() {
         this.likes = (this.likes == null) ? 1L : this.likes + 1L;
+        this.likesVersion = (this.likesVersion == null) ? 1L : this.likesVersion + 1L;
     }
 
     public void decrementLikes() {
         if (this.likes != null && this.likes > 0) {
             this.likes = this.likes - 1L;
+            this.likesVersion = (this.likesVersion == null) ? 1L : this.likesVersion + 1L;
         }
     }
 
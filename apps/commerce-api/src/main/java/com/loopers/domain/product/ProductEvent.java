@@ -0,0 +1,56 @@
+package com.loopers.domain.product;
+
+import java.util.Set;
+
+public class ProductEvent {
+
+    /**
+     * 상품 목록의 정렬 기준. 목록 캐시는 (브랜드, 정렬 기준) 단위로 무효화된다.
+     */
+    public enum SortKey {
+        LATEST, PRICE, LIKES
+    }
+
+    public record ProductCreated(
+            Long productId,
+            Long brandId,
+            Long likes,
+            Long likesVersion
+    ) {
+        public static ProductCreated from(ProductEntity product) {
+            return new ProductCreated(product.getId(), product.getBrandId(), product.getLikes(), product.getLikesVersion());
+        }
+
+        public Set<SortKey> affectedSortKeys() {
+            return Set.of(SortKey.values());
+        }
+    }
+
+    /**
+     * likesVersion 은 좋아요 수가 바뀔 때마다 1 씩 늘어나므로, 순서가 바뀌어 도착한 이벤트를 가려낼 때 쓴다.
+     */
+    public record ProductLikesChanged(
+            Long productId,
+            Long brandId,
+            Long likes,
+            Long likesVersion
+    ) {
+        public static ProductLikesChanged from(ProductEntity product) {
+            return new ProductLikesChanged(product.getId(), product.getBrandId(), product.getLikes(), product.getLikesVersion());
+        }
+
+        // 좋아요 수는 정렬 기준과 관계없이 모든 목록 응답에 담기므로 모든 정렬 기준의 목록이 영향을 받는다.
+        public Set<SortKey> affectedSortKeys() {
+            return Set.of(SortKey.values());
+        }
+    }
+
+    public record ProductStockChanged(
+            Long productId,
+            Long stock
+    ) {
+        public static ProductStockChanged from(ProductEntity product) {
+            return new ProductStockChanged(product.getId(), product.getStock());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.loopers.domain.product;
+
+public interface ProductEventPublisher {
+    void publish(ProductEvent.ProductCreated event);
+
+    void publish(ProductEvent.ProductLikesChanged event);
+
+    void publish(ProductEvent.ProductStockChanged event);
+}
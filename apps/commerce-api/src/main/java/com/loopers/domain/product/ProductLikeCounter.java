@@ -0,0 +1,77 @@
+package com.loopers.domain.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품별 좋아요 수 변화량을 메모리에 모아 두는 카운터. (write-behind)
+ * 켜져 있으면 좋아요/취소 요청은 상품 행을 잠그지 않고 여기에 ±1 만 더하고,
+ * 모인 변화량은 스케줄러가 주기적으로 꺼내 상품 테이블에 한 번에 반영한다.
+ *
+ * 상품마다 LongAdder 를 두어 같은 상품에 요청이 몰려도 셀 단위로 나뉘어 경합하지 않는다.
+ * 꺼낼 때는 읽은 합계만큼만 빼므로, 그 사이에 더해진 값은 다음 반영 때 함께 나간다.
+ */
+@Component
+public class ProductLikeCounter {
+
+    private final boolean enabled;
+    private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public ProductLikeCounter(@Value("${product.like-counter.write-behind.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 더한다. 롤백된 좋아요가 반영되지 않도록 하기 위함이다.
+     */
+    public void add(Long productId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(productId, delta);
+                }
+            });
+            return;
+        }
+        increment(productId, delta);
+    }
+
+    private void increment(Long productId, long delta) {
+        deltas.computeIfAbsent(productId, key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 반영할 변화량을 꺼낸다. 변화가 없는 상품은 결과에서 빠진다.
+     * 다른 스레드가 잡고 있을 수 있으므로 LongAdder 는 맵에서 지우지 않고 재사용한다.
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        deltas.forEach((productId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                drained.put(productId, delta);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 변화량을 되돌려 다음 주기에 다시 반영되도록 한다.
+     */
+    public void restore(Map<Long, Long> drained) {
+        drained.forEach(this::increment);
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.product;
+
+/**
+ * 비정규화된 상품 좋아요 수(storedLikes)와 좋아요 테이블의 실제 건수(actualLikes)가 어긋난 상품.
+ */
+public record ProductLikeDrift(
+        Long productId,
+        long storedLikes,
+        long actualLikes
+) {
+}
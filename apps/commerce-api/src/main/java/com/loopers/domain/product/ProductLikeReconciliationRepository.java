@@ -0,0 +1,33 @@
+package com.loopers.domain.product;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 좋아요 수 정합성 점검용 조회/보정. 대량 점검을 위해 엔티티를 거치지 않고 JDBC 로 처리한다.
+ */
+public interface ProductLikeReconciliationRepository {
+
+    long findMaxProductId();
+
+    /**
+     * DB 의 현재 시각(UTC). 점검 시작 시각을 애플리케이션 서버 시계와 무관하게 정하기 위해 사용한다.
+     */
+    LocalDateTime currentTimestamp();
+
+    /**
+     * [fromId, toId) 범위 상품 중 좋아요 수가 실제 건수와 다른 상품을 찾는다.
+     */
+    List<ProductLikeDrift> findDrifts(long fromId, long toId);
+
+    /**
+     * quietSince 이후 상품 행이 갱신되지 않았고 새 좋아요도 없는 상품 중, 좋아요 수가 실제 건수와 다른 상품을 찾는다.
+     */
+    List<ProductLikeDrift> findQuietDrifts(Collection<Long> productIds, LocalDateTime quietSince);
+
+    /**
+     * 저장된 값이 점검 시점과 같고 quietSince 이후 갱신되지 않은 상품만 실제 건수로 보정하고, 보정된 상품 ID 를 반환한다.
+     */
+    List<Long> correct(List<ProductLikeDrift> drifts, LocalDateTime quietSince);
+}
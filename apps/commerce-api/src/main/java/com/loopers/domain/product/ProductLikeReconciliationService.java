@@ -0,0 +1,64 @@
+package com.loopers.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 좋아요 수 정합성 점검(ProductLikeReconciler)에서만 쓰는 조회와 보정.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductLikeReconciliationService {
+
+    private final ProductLikeReconciliationRepository productLikeReconciliationRepository;
+    private final ProductRepository productRepository;
+    private final ProductEventPublisher productEventPublisher;
+
+    @Transactional(readOnly = true)
+    public long findMaxProductId() {
+        return productLikeReconciliationRepository.findMaxProductId();
+    }
+
+    /**
+     * 주 DB 의 시각을 기준으로 삼아야 하므로 ReadYourWritesTracker.readFromPrimary 안에서 호출한다.
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime currentDatabaseTime() {
+        return productLikeReconciliationRepository.currentTimestamp();
+    }
+
+    /**
+     * [fromId, toId) 범위에서 좋아요 수가 어긋난 상품을 찾는다. 읽기 전용 트랜잭션 하나에서 두 테이블을 같은 스냅샷으로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductLikeDrift> findLikeDrifts(long fromId, long toId) {
+        return productLikeReconciliationRepository.findDrifts(fromId, toId);
+    }
+
+    /**
+     * 점검에서 찾은 상품을 주 DB 에서 다시 확인하여, quietSince 이후 좋아요나 좋아요 수 반영이 없었고
+     * 어긋난 정도도 점검 때와 같은 상품만 실제 건수로 보정한 뒤 변경 이벤트를 발행한다.
+     * (write-behind 로 아직 반영되지 않은 좋아요를 건수에 포함해 보정하면, 이후 반영 때 한 번 더 더해지기 때문이다)
+     */
+    @Transactional
+    public List<ProductEntity> correctLikes(List<ProductLikeDrift> scannedDrifts, LocalDateTime quietSince) {
+        Set<ProductLikeDrift> scanned = new HashSet<>(scannedDrifts);
+        List<ProductLikeDrift> stableDrifts = productLikeReconciliationRepository.findQuietDrifts(
+                scannedDrifts.stream().map(ProductLikeDrift::productId).toList(), quietSince
+        ).stream().filter(scanned::contains).toList();
+        List<Long> correctedIds = productLikeReconciliationRepository.correct(stableDrifts, quietSince);
+        if (correctedIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProductEntity> products = productRepository.findAllByIds(correctedIds);
+        products.forEach(product -> productEventPublisher.publish(ProductEvent.ProductLikesChanged.from(product)));
+        return products;
+    }
+}
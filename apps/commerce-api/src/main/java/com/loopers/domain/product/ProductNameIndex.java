@@ -0,0 +1,188 @@
+package com.loopers.domain.product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품명 n-gram 역색인. 소문자로 바꾼 상품명의 글자 1-gram 과 2-gram 마다 상품 위치 목록(posting)을 둔다.
+ * 검색어의 n-gram 중 적게 등장하는 것들의 posting 교집합만 후보로 반환하므로,
+ * 조회 비용은 전체 상품 수가 아니라 해당 n-gram 을 가진 상품 수에 비례한다. 후보가 실제로 검색어를 포함하는지는 호출하는 쪽에서 확인한다.
+ *
+ * posting 은 오름차순 위치의 차이를 가변 길이 정수(varint)로 이어 붙여 저장한다.
+ * 한 스레드만 쓰고, 읽는 쪽은 volatile 로 공개된 Encoded 를 lock 없이 읽는다.
+ */
+final class ProductNameIndex {
+
+    private static final int MAX_INTERSECTIONS = 3;
+
+    private final Map<Integer, PostingList> postings = new ConcurrentHashMap<>();
+
+    void add(int position, String lowerName) {
+        for (int gram : grams(lowerName)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(position);
+        }
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 상품 위치를 오름차순으로 반환한다.
+     * 적게 등장하는 n-gram 부터 최대 MAX_INTERSECTIONS 개의 posting 을 교집합하여 후보를 줄인다.
+     */
+    int[] candidates(String lowerQuery) {
+        List<PostingList> lists = new ArrayList<>();
+        for (int gram : grams(lowerQuery)) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                return new int[0];
+            }
+            lists.add(postingList);
+        }
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+        lists.sort(Comparator.comparingInt(PostingList::count));
+
+        int[] result = lists.get(0).decode();
+        for (int i = 1; i < Math.min(lists.size(), MAX_INTERSECTIONS) && result.length > 0; i++) {
+            result = lists.get(i).retainAll(result);
+        }
+        return result;
+    }
+
+    // 한 글자 검색어를 위해 1-gram 도, 그 외에는 2-gram 을 사용한다.
+    private static int[] grams(String text) {
+        if (text.isEmpty()) {
+            return new int[0];
+        }
+        if (text.length() == 1) {
+            return new int[]{text.charAt(0)};
+        }
+        int[] grams = new int[text.length() * 2 - 1];
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            grams[count++] = text.charAt(i);
+            if (i + 1 < text.length()) {
+                grams[count++] = (text.charAt(i) << 16) | text.charAt(i + 1);
+            }
+        }
+        return Arrays.stream(grams, 0, count).distinct().toArray();
+    }
+
+    private static final class PostingList {
+
+        private volatile Encoded encoded = new Encoded(new byte[8], 0, 0, -1);
+
+        int count() {
+            return encoded.count();
+        }
+
+        void add(int position) {
+            Encoded current = encoded;
+            if (position == current.last()) {
+                return;
+            }
+            if (position < current.last()) {
+                // 기존 상품의 이름이 바뀐 경우. 드물기 때문에 목록을 다시 인코딩한다.
+                int[] positions = decode();
+                if (Arrays.binarySearch(positions, position) >= 0) {
+                    return;
+                }
+                int[] merged = Arrays.copyOf(positions, positions.length + 1);
+                merged[positions.length] = position;
+                Arrays.sort(merged);
+                encoded = encode(merged);
+                return;
+            }
+
+            byte[] bytes = current.bytes();
+            if (bytes.length - current.length() < 5) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            int length = writeVarint(bytes, current.length(), position - current.last());
+            encoded = new Encoded(bytes, length, current.count() + 1, position);
+        }
+
+        int[] decode() {
+            Encoded current = encoded;
+            int[] positions = new int[current.count()];
+            byte[] bytes = current.bytes();
+            int offset = 0;
+            int position = -1;
+            for (int i = 0; i < positions.length; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[offset++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                position += delta;
+                positions[i] = position;
+            }
+            return positions;
+        }
+
+        /**
+         * 주어진 위치 중 이 posting 에도 있는 것만 남긴다. 두 목록 모두 오름차순이므로 한 번씩만 훑는다.
+         */
+        int[] retainAll(int[] positions) {
+            Encoded current = encoded;
+            byte[] bytes = current.bytes();
+            int[] retained = new int[positions.length];
+            int retainedCount = 0;
+            int offset = 0;
+            int position = -1;
+            int index = 0;
+            for (int i = 0; i < current.count() && index < positions.length; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[offset++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                position += delta;
+
+                while (index < positions.length && positions[index] < position) {
+                    index++;
+                }
+                if (index < positions.length && positions[index] == position) {
+                    retained[retainedCount++] = position;
+                    index++;
+                }
+            }
+            return Arrays.copyOf(retained, retainedCount);
+        }
+
+        private static Encoded encode(int[] positions) {
+            byte[] bytes = new byte[Math.max(8, positions.length * 2)];
+            int length = 0;
+            int last = -1;
+            for (int position : positions) {
+                if (bytes.length - length < 5) {
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                }
+                length = writeVarint(bytes, length, position - last);
+                last = position;
+            }
+            return new Encoded(bytes, length, positions.length, last);
+        }
+
+        private static int writeVarint(byte[] bytes, int offset, int value) {
+            while ((value & ~0x7F) != 0) {
+                bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[offset++] = (byte) value;
+            return offset;
+        }
+
+        // 읽는 쪽은 length 까지만 읽으므로, 쓰는 쪽이 그 뒤에 이어 쓰는 것은 보이지 않는다.
+        private record Encoded(byte[] bytes, int length, int count, int last) {}
+    }
+}
@@ -0,0 +1,30 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+public interface ProductRankingRepository {
+
+    /**
+     * 이미 반영된 버전보다 새로운 좋아요 수일 때만 기록한다. (늦게 도착한 이전 이벤트가 최신 값을 덮어쓰지 않는다)
+     */
+    void updateLikes(Long productId, Long brandId, long likes, long likesVersion);
+
+    /**
+     * 랭킹에 아직 없는 상품만 추가한다. (이벤트로 반영된 최신 값을 덮어쓰지 않는다)
+     */
+    void saveAllIfAbsent(List<ProductEntity> products);
+
+    /**
+     * 모든 상품이 채워졌음을 표시한다. 표시되기 전에는 랭킹이 일부만 채워졌을 수 있다.
+     */
+    void markReady();
+
+    boolean isReady();
+
+    /**
+     * 좋아요 수 내림차순으로 상품 ID 를 조회한다. brandId 가 null 이면 전체 랭킹에서 조회한다.
+     */
+    List<Long> findIdsOrderByLikes(Long brandId, long offset, int size);
+
+    long count(Long brandId);
+}
@@ -0,0 +1,49 @@
+package com.loopers.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좋아요 순 상품 랭킹.
+ * Redis Sorted Set 에 상품별 좋아요 수를 점수로 유지하여, 좋아요 순 목록을 DB 정렬 없이 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductRankingService {
+
+    private final ProductRankingRepository productRankingRepository;
+
+    public void updateLikes(Long productId, Long brandId, Long likes, Long likesVersion) {
+        productRankingRepository.updateLikes(
+                productId, brandId, likes != null ? likes : 0L, likesVersion != null ? likesVersion : 0L
+        );
+    }
+
+    public void saveAllIfAbsent(List<ProductEntity> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        productRankingRepository.saveAllIfAbsent(products);
+    }
+
+    public void markReady() {
+        productRankingRepository.markReady();
+    }
+
+    /**
+     * 채우기가 끝나지 않은 랭킹은 일부 상품이 빠져 있으므로 조회에 쓰지 않는다.
+     */
+    public boolean isReady() {
+        return productRankingRepository.isReady();
+    }
+
+    public List<Long> findIdsOrderByLikes(Long brandId, long offset, int size) {
+        return productRankingRepository.findIdsOrderByLikes(brandId, offset, size);
+    }
+
+    public long count(Long brandId) {
+        return productRankingRepository.count(brandId);
+    }
+}
@@ -2,8 +2,11 @@ package com.loopers.domain.product;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -13,7 +16,19 @@ public interface ProductRepository {
 
     Page<ProductEntity> find(ProductCriteria criteria, Pageable pageable);
 
+    Page<ProductSummary> findSummaries(ProductCriteria criteria, Pageable pageable);
+
+    List<ProductSummary> findSummariesByIds(Collection<Long> ids);
+
+    Slice<ProductEntity> findSlice(ProductCriteria criteria, Pageable pageable);
+
+    Slice<ProductEntity> findByCursor(ProductCriteria criteria, ProductCursor cursor, int size);
+
     Optional<ProductEntity> findById(Long productId);
+
+    List<ProductEntity> findAllByIds(Collection<Long> ids);
+
+    List<ProductEntity> findAllByIdGreaterThan(Long lastId, int size);
     
     boolean existsById(Long productId);
     
@@ -22,4 +37,6 @@ public interface ProductRepository {
     Optional<ProductEntity> findByIdWithLockForLikes(Long productId);
 
     List<ProductEntity> findByIdsWithLock(List<Long> ids);
+
+    void addLikes(Map<Long, Long> deltas);
 }
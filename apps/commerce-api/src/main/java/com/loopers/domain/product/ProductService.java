@@ -4,13 +4,18 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -19,18 +24,75 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductEventPublisher productEventPublisher;
+    private final ProductCatalogIndex productCatalogIndex;
 
     @Transactional
     public ProductEntity createProduct(ProductCommand.Create command) {
-        ProductEntity productEntity = ProductEntity.from(command);
-        return productRepository.save(productEntity);
+        ProductEntity productEntity = productRepository.save(ProductEntity.from(command));
+
+        // 커밋 후 목록/건수 캐시 무효화와 좋아요 랭킹 등록에 사용된다.
+        productEventPublisher.publish(ProductEvent.ProductCreated.from(productEntity));
+        return productEntity;
     }
 
     @Transactional(readOnly = true)
     public Page<ProductEntity> findProducts(ProductCriteria criteria, Pageable pageable) {
+        // 메모리 인덱스로 처리할 수 있으면 정렬, 페이징, 건수는 인덱스에서 구하고 상품은 PK 로만 조회한다.
+        Optional<ProductCatalogIndex.SearchResult> indexed = productCatalogIndex.search(
+                criteria, pageable.getOffset(), pageable.getPageSize()
+        );
+        if (indexed.isPresent()) {
+            List<Long> productIds = indexed.get().productIds();
+            return new PageImpl<>(findAllByIdsInOrder(productIds), pageable, indexed.get().totalCount());
+        }
         return productRepository.find(criteria, pageable);
     }
 
+    /**
+     * 목록 화면용 조회. 엔티티 대신 브랜드명을 포함한 DTO 로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductSummary> findProductSummaries(ProductCriteria criteria, Pageable pageable) {
+        Optional<ProductCatalogIndex.SearchResult> indexed = productCatalogIndex.search(
+                criteria, pageable.getOffset(), pageable.getPageSize()
+        );
+        if (indexed.isPresent()) {
+            List<Long> productIds = indexed.get().productIds();
+            Map<Long, ProductSummary> summaryById = productRepository.findSummariesByIds(productIds).stream()
+                    .collect(Collectors.toMap(ProductSummary::id, Function.identity()));
+            List<ProductSummary> content = productIds.stream()
+                    .map(summaryById::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new PageImpl<>(content, pageable, indexed.get().totalCount());
+        }
+        return productRepository.findSummaries(criteria, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductEntity> findProductSlice(ProductCriteria criteria, Pageable pageable) {
+        return productRepository.findSlice(criteria, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductEntity> findProductsByCursor(ProductCriteria criteria, ProductCursor cursor, int size) {
+        return productRepository.findByCursor(criteria, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductEntity> findAllByIds(Collection<Long> ids) {
+        return productRepository.findAllByIds(ids);
+    }
+
+    /**
+     * ID 기준 키셋으로 삭제되지 않은 상품을 순서대로 나누어 조회한다. (전체 상품 순회용)
+     */
+    @Transactional(readOnly = true)
+    public List<ProductEntity> findChunkAfter(Long lastId, int size) {
+        return productRepository.findAllByIdGreaterThan(lastId, size);
+    }
+
     @Transactional(readOnly = true)
     public Optional<ProductEntity> findById(Long productId) {
         return productRepository.findById(productId);
@@ -60,10 +122,39 @@ public class ProductService {
         }
 
         productRepository.save(products);
+        products.forEach(product -> productEventPublisher.publish(ProductEvent.ProductStockChanged.from(product)));
     }
     
+    /**
+     * 모아 둔 좋아요 변화량을 상품 테이블에 반영하고, 반영된 좋아요 수로 변경 이벤트를 발행한다.
+     * (커밋 후 좋아요 랭킹, 목록 캐시, 메모리 인덱스가 갱신된다)
+     */
+    @Transactional
+    public List<ProductEntity> applyLikeDeltas(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+        productRepository.addLikes(deltas);
+
+        List<ProductEntity> products = productRepository.findAllByIds(deltas.keySet());
+        products.forEach(product -> productEventPublisher.publish(ProductEvent.ProductLikesChanged.from(product)));
+        return products;
+    }
+
     @Transactional
     public Optional<ProductEntity> findByIdWithLockForLikes(Long productId) {
         return productRepository.findByIdWithLockForLikes(productId);
     }
+
+    private List<ProductEntity> findAllByIdsInOrder(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductEntity> productById = productRepository.findAllByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        return productIds.stream()
+                .map(productById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
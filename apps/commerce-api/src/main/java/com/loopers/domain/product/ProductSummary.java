@@ -0,0 +1,19 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 목록 조회용 상품 정보. 엔티티 대신 필요한 컬럼만 바로 조회하며, 브랜드명을 함께 가진다.
+ * 브랜드가 없으면 brandName 은 null 이다. updatedAt 은 응답의 ETag 를 만드는 데 쓴다.
+ */
+public record ProductSummary(
+        Long id,
+        String name,
+        Long brandId,
+        String brandName,
+        Long price,
+        Long stock,
+        Long likes,
+        ZonedDateTime updatedAt
+) {
+}
@@ -6,6 +6,8 @@ import com.loopers.domain.user.UserEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -23,4 +25,9 @@ public class BrandRepositoryImpl implements BrandRepository {
     public Optional<BrandEntity> find(Long brandId) {
         return brandJpaRepository.findById(brandId);
     }
+
+    @Override
+    public List<BrandEntity> findAllByIds(Collection<Long> brandIds) {
+        return brandJpaRepository.findAllById(brandIds);
+    }
 }
@@ -1,7 +1,9 @@
 package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.LikeEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,8 +15,29 @@ public interface LikeJpaRepository extends JpaRepository<LikeEntity, Long> {
     @Query("SELECT l FROM LikeEntity l WHERE l.userId = :userId AND l.productId = :productId")
     Optional<LikeEntity> findByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
     
+    // 중복이면 영향받은 행 수가 0 이다. (ON DUPLICATE KEY UPDATE 는 드라이버 기본값에서 중복도 1 로 돌려주어 구분할 수 없다)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO likes (id, user_id, product_id, created_at, updated_at) "
+            + "VALUES (:id, :userId, :productId, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))", nativeQuery = true)
+    int insertIgnore(@Param("id") Long id, @Param("userId") Long userId, @Param("productId") Long productId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM likes WHERE user_id = :userId AND product_id = :productId", nativeQuery = true)
+    int deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    // 트랜잭션 스냅샷이 아니라 최신 커밋 값을 읽도록 공유 락 읽기로 조회한다.
+    @Query(value = "SELECT id FROM likes WHERE user_id = :userId AND product_id = :productId FOR SHARE", nativeQuery = true)
+    Optional<Long> findIdForShare(@Param("userId") Long userId, @Param("productId") Long productId);
+
     @Query("SELECT l FROM LikeEntity l WHERE l.userId = :userId")
     List<LikeEntity> findByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT l.productId FROM LikeEntity l WHERE l.userId = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+
+    // idx_likes_user_id 는 PK 를 포함하므로 (user_id, id) 순서로 정렬 없이 역방향으로 훑는다.
+    @Query("SELECT l FROM LikeEntity l WHERE l.userId = :userId AND l.id < :lastId ORDER BY l.id DESC")
+    List<LikeEntity> findByUserIdAndIdLessThan(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
     
     // 비정규화를 위한 추가 메서드들
     @Query("SELECT l FROM LikeEntity l WHERE l.productId = :productId")
@@ -1,10 +1,19 @@
 package com.loopers.infrastructure.like;
 
+import com.loopers.domain.like.LikeCursor;
 import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.like.LikeInsertResult;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.id.TimeOrderedIdGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,11 +38,53 @@ public class LikeRepositoryImpl implements LikeRepository {
         likeJpaRepository.delete(like);
     }
 
+    /**
+     * INSERT IGNORE 로 추가한다. LikeEntity 는 시간순 ID 를 쓰므로 ID 를 직접 채번해 넣는다.
+     * 중복인 경우에만 기존 좋아요의 ID 를 한 번 더 조회한다.
+     */
+    @Override
+    public LikeInsertResult insertIfAbsent(Long userId, Long productId) {
+        long id = TimeOrderedIdGenerator.getDefault().nextId();
+        if (likeJpaRepository.insertIgnore(id, userId, productId) > 0) {
+            return new LikeInsertResult(id, true);
+        }
+        Long existingId = likeJpaRepository.findIdForShare(userId, productId)
+                .orElseThrow(() -> new CoreException(ErrorType.CONFLICT, "좋아요를 처리하지 못했습니다. 다시 시도해 주세요."));
+        return new LikeInsertResult(existingId, false);
+    }
+
+    @Override
+    public boolean deleteByUserIdAndProductId(Long userId, Long productId) {
+        return likeJpaRepository.deleteByUserIdAndProductId(userId, productId) > 0;
+    }
+
     @Override
     public List<LikeEntity> findByUserId(Long userId) {
         return likeJpaRepository.findByUserId(userId);
     }
 
+    @Override
+    public List<Long> findProductIdsByUserId(Long userId) {
+        return likeJpaRepository.findProductIdsByUserId(userId);
+    }
+
+    /**
+     * 최근 좋아요부터 커서 이후의 좋아요를 조회한다. size + 1 건을 읽어 다음 페이지 존재 여부를 판단한다.
+     */
+    @Override
+    public Slice<LikeEntity> findByUserIdAndCursor(Long userId, LikeCursor cursor, int size) {
+        Long lastId = cursor != null ? cursor.id() : Long.MAX_VALUE;
+        List<LikeEntity> content = new ArrayList<>(
+                likeJpaRepository.findByUserIdAndIdLessThan(userId, lastId, PageRequest.of(0, size + 1))
+        );
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content.remove(size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
     @Override
     public List<LikeEntity> findByProductId(Long productId) {
         return likeJpaRepository.findByProductId(productId);
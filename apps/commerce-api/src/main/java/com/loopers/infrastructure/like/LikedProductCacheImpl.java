@@ -0,0 +1,189 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikedProductCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 좋아요 상품 집합을 Redis Set 으로 둔다.
+ * 적재된 집합에는 상품 ID 로 쓰이지 않는 0 을 함께 넣어 두어, 좋아요가 하나도 없는 사용자도 적재 여부를 구분한다.
+ * 조회는 적재 표시와 상품 ID 들을 SMISMEMBER 한 번으로 확인한다.
+ *
+ * 사용자마다 버전 키를 두고 좋아요/취소가 반영될 때마다 올린다. 적재는 DB 를 읽기 전에 버전을 읽어 두고,
+ * 적재 시점에 버전이 그대로일 때만 스크립트 안에서 원자적으로 집합을 채운다.
+ * DB 를 읽는 동안 좋아요/취소가 커밋되었으면 읽은 값이 이미 낡았으므로 적재하지 않고 다음 조회에서 다시 적재한다.
+ * (취소의 SREM 뒤에 이전 스냅샷의 SADD 가 도착해 취소가 되돌려지는 일을 막는다)
+ * 좋아요/취소는 적재된 집합에만 반영하여, 적재 표시 없는 일부 집합을 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class LikedProductCacheImpl implements LikedProductCache {
+
+    private static final String KEY_PREFIX = "like:user:";
+    private static final String KEY_SUFFIX = ":products";
+    private static final String VERSION_KEY_SUFFIX = ":version";
+    private static final String LOADED_MARKER = "0";
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final long UNKNOWN_VERSION = -1L;
+
+    // KEYS: 집합, 버전 / ARGV: 적재 전에 읽은 버전, 만료(초), 적재 표시와 상품 ID 들
+    // unpack 은 인자 수에 한도가 있으므로 나누어 넣는다.
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "for i = 3, #ARGV, 1000 do "
+                    + "redis.call('sadd', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) "
+                    + "end "
+                    + "redis.call('expire', KEYS[1], ARGV[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    // KEYS: 집합, 버전 / ARGV: sadd 또는 srem, 만료(초), 적재 표시, 상품 ID
+    private static final DefaultRedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) "
+                    + "redis.call('expire', KEYS[2], ARGV[2]) "
+                    + "if redis.call('sismember', KEYS[1], ARGV[3]) == 0 then return 0 end "
+                    + "redis.call(ARGV[1], KEYS[1], ARGV[4]) "
+                    + "redis.call('expire', KEYS[1], ARGV[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public LikedProductCacheImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<Map<Long, Boolean>> findFlags(Long userId, List<Long> productIds) {
+        Object[] members = new Object[productIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < productIds.size(); i++) {
+            members[i + 1] = String.valueOf(productIds.get(i));
+        }
+
+        Map<Object, Boolean> found;
+        try {
+            found = redisTemplate.opsForSet().isMember(key(userId), members);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+        if (found == null || !Boolean.TRUE.equals(found.get(LOADED_MARKER))) {
+            return Optional.empty();
+        }
+
+        Map<Long, Boolean> flags = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            flags.put(productId, Boolean.TRUE.equals(found.get(String.valueOf(productId))));
+        }
+        return Optional.of(flags);
+    }
+
+    @Override
+    public long currentVersion(Long userId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(userId));
+            return version != null ? Long.parseLong(version) : 0L;
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 버전 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    @Override
+    public void load(Long userId, long version, Collection<Long> likedProductIds) {
+        if (version == UNKNOWN_VERSION) {
+            return;
+        }
+        Object[] args = new Object[likedProductIds.size() + 3];
+        args[0] = String.valueOf(version);
+        args[1] = String.valueOf(TTL.toSeconds());
+        args[2] = LOADED_MARKER;
+        int index = 3;
+        for (Long productId : likedProductIds) {
+            args[index++] = String.valueOf(productId);
+        }
+
+        try {
+            redisTemplate.execute(LOAD_SCRIPT, List.of(key(userId), versionKey(userId)), args);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 적재 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void add(Long userId, Long productId) {
+        afterCommit(() -> change(userId, "sadd", productId), userId);
+    }
+
+    @Override
+    public void remove(Long userId, Long productId) {
+        afterCommit(() -> change(userId, "srem", productId), userId);
+    }
+
+    private void change(Long userId, String command, Long productId) {
+        redisTemplate.execute(
+                CHANGE_SCRIPT,
+                List.of(key(userId), versionKey(userId)),
+                command, String.valueOf(TTL.toSeconds()), LOADED_MARKER, String.valueOf(productId)
+        );
+    }
+
+    private void afterCommit(Runnable update, Long userId) {
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (RuntimeException e) {
+                // 반영하지 못했으면 집합을 지워 다음 조회에서 DB 기준으로 다시 적재되게 한다.
+                log.warn("좋아요 집합 갱신 실패: userId={}, error={}", userId, e.getMessage());
+                evictQuietly(userId);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+            return;
+        }
+        safeUpdate.run();
+    }
+
+    // 버전도 올려, 진행 중인 적재가 지운 뒤에 이전 값을 다시 채우지 않게 한다.
+    private void evictQuietly(Long userId) {
+        try {
+            redisTemplate.delete(key(userId));
+            redisTemplate.opsForValue().increment(versionKey(userId));
+            redisTemplate.expire(versionKey(userId), TTL);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 삭제 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId + KEY_SUFFIX;
+    }
+
+    private String versionKey(Long userId) {
+        return KEY_PREFIX + userId + VERSION_KEY_SUFFIX;
+    }
+}
@@ -6,6 +6,7 @@ import com.loopers.domain.payment.PaymentInfo;
 import com.loopers.infrastructure.payment.dto.PgV1Dto;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.id.TransactionKeys;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
@@ -67,7 +68,7 @@ public class PgPaymentGatewayImpl implements PaymentGateway {
         
         // 장애 상황에서도 내부 시스템은 정상적으로 응답하도록 보호
         return PaymentInfo.of(
-                generateTransactionKey(payment.getOrderId()),
+                TransactionKeys.next(),
                 payment.getOrderId(),
                 payment.getCardType(),
                 payment.getCardNo(),
@@ -125,11 +126,4 @@ public class PgPaymentGatewayImpl implements PaymentGateway {
                 "PG 시스템 장애로 인한 대기 상태"
         );
     }
-
-    /**
-     * 트랜잭션 키 생성 헬퍼 메서드
-     */
-    private String generateTransactionKey(String orderId) {
-        return "TR:" + orderId + ":" + System.currentTimeMillis();
-    }
 }
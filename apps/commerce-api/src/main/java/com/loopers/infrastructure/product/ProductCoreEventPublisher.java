@@ -0,0 +1,29 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductEvent;
+import com.loopers.domain.product.ProductEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductCoreEventPublisher implements ProductEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(ProductEvent.ProductCreated event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public void publish(ProductEvent.ProductLikesChanged event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public void publish(ProductEvent.ProductStockChanged event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,40 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductCriteria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 목록 전체 건수(COUNT) 캐시.
+ * 정렬과 무관하게 검색 조건만으로 키를 만들어, 정렬만 다른 요청끼리 같은 건수를 공유한다.
+ * 상품 생성이 커밋된 뒤 ProductCacheEventListener 에서 전체 무효화된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCountCache {
+
+    public static final String CACHE_NAME = "productCount";
+
+    private final CacheManager cacheManager;
+
+    public long get(ProductCriteria criteria, LongSupplier loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.getAsLong();
+        }
+
+        String key = criteria != null ? criteria.filterKey() : "";
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null && cached.get() instanceof Number count) {
+            return count.longValue();
+        }
+
+        long count = loader.getAsLong();
+        cache.put(key, count);
+        return count;
+    }
+}
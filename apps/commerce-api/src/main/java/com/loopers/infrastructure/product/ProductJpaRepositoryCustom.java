@@ -1,10 +1,27 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface ProductJpaRepositoryCustom {
     Page<ProductEntity> findAll(ProductCriteria criteria, Pageable pageable);
+
+    Page<ProductSummary> findSummaries(ProductCriteria criteria, Pageable pageable);
+
+    List<ProductSummary> findSummariesByIds(Collection<Long> ids);
+
+    Slice<ProductEntity> findSlice(ProductCriteria criteria, Pageable pageable);
+
+    Slice<ProductEntity> findAllByCursor(ProductCriteria criteria, ProductCursor cursor, int size);
+
+    void addLikes(Map<Long, Long> deltas);
 }
@@ -1,177 +1,208 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductSummary;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.StringUtils;
 
+import java.sql.PreparedStatement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 검색 조건별 상품 조회. JPQL 은 ProductQueryRegistry 가 쿼리 형태별로 한 번만 만들어 두고, 요청마다 파라미터만 바인딩한다.
+ * OFFSET 이 임계값 이상인 깊은 페이지는 지연 조인으로 조회한다.
+ * (커버링 인덱스로 ID 만 먼저 건너뛰며 고른 뒤, 해당 ID 의 행만 읽는다)
+ */
 @Repository
 @RequiredArgsConstructor
 public class ProductJpaRepositoryImpl implements ProductJpaRepositoryCustom {
 
+    private static final String SUMMARIES_BY_IDS = ProductQueryShape.SUMMARY_SELECT + " WHERE p.id IN :ids";
+    private static final String ENTITIES_BY_IDS = "SELECT p FROM ProductEntity p WHERE p.id IN :ids";
+    private static final String ADD_LIKES =
+            "UPDATE product SET likes = GREATEST(likes + ?, 0), likes_version = likes_version + 1,"
+                    + " updated_at = UTC_TIMESTAMP(6) WHERE id = ?";
+
     private final EntityManager entityManager;
+    private final ProductQueryRegistry productQueryRegistry;
+    private final ProductCountCache productCountCache;
+
+    @Value("${product.deferred-join.offset-threshold:1000}")
+    private long deferredJoinOffsetThreshold;
 
     @Override
     public Page<ProductEntity> findAll(ProductCriteria criteria, Pageable pageable) {
-        QueryBuilder queryBuilder = new QueryBuilder();
+        List<ProductEntity> content = findEntities(criteria, pageable.getOffset(), pageable.getPageSize());
         
-        queryBuilder.addWhere("p.deletedAt IS NULL");
-        
-        if (criteria != null && criteria.criteria() != null) {
-            for (ProductCriteria.Criterion criterion : criteria.criteria()) {
-                processCriterion(criterion, queryBuilder);
-            }
+        // 마지막 페이지처럼 건수를 알 수 있으면 COUNT 를 생략하고, 그 외에는 검색 조건별 캐시를 사용
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> productCountCache.get(criteria, () -> count(criteria)));
+    }
+
+    /**
+     * 엔티티 대신 목록에 필요한 컬럼과 브랜드명을 바로 DTO 로 조회한다.
+     * 영속성 컨텍스트에 올라가지 않으므로 스냅샷 복사나 더티 체킹, 날짜 컬럼 변환이 없다.
+     */
+    @Override
+    public Page<ProductSummary> findSummaries(ProductCriteria criteria, Pageable pageable) {
+        List<ProductSummary> content;
+        if (isDeepPage(pageable.getOffset())) {
+            content = findByDeferredJoin(criteria, pageable.getOffset(), pageable.getPageSize(),
+                    SUMMARIES_BY_IDS, ProductSummary.class, ProductSummary::id);
+        } else {
+            TypedQuery<ProductSummary> query = productQueryRegistry.create(
+                    ProductQueryShape.of(ProductQueryShape.Kind.SUMMARY, criteria), ProductSummary.class, criteria
+            );
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+            content = query.getResultList();
         }
-        
-        List<String> orderByClauses = buildOrderByClauses(criteria);
-        
-        String jpql = buildMainQuery(queryBuilder.getWhereClauses(), orderByClauses);
-        
-        String countJpql = buildCountQuery(queryBuilder.getWhereClauses());
-        
-        TypedQuery<ProductEntity> query = entityManager.createQuery(jpql, ProductEntity.class);
-        setParameters(query, queryBuilder.getParameters());
-        query.setFirstResult((int) pageable.getOffset());
-        query.setMaxResults(pageable.getPageSize());
-        List<ProductEntity> content = query.getResultList();
-        
-        TypedQuery<Long> countQuery = entityManager.createQuery(countJpql, Long.class);
-        setParameters(countQuery, queryBuilder.getParameters());
-        Long total = countQuery.getSingleResult();
-        
-        return new PageImpl<>(content, pageable, total);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> productCountCache.get(criteria, () -> count(criteria)));
     }
-    
-    private void processCriterion(ProductCriteria.Criterion criterion, QueryBuilder queryBuilder) {
-        if (criterion instanceof ProductCriteria.NameContains nameContains) {
-            if (StringUtils.hasText(nameContains.name())) {
-                queryBuilder.addWhere("LOWER(p.name) LIKE LOWER(:name)");
-                queryBuilder.addParameter("name", "%" + nameContains.name() + "%");
-            }
-        } else if (criterion instanceof ProductCriteria.BrandIdEquals brandIdEquals) {
-            if (brandIdEquals.brandId() != null) {
-                queryBuilder.addWhere("p.brandId = :brandId");
-                queryBuilder.addParameter("brandId", brandIdEquals.brandId());
-            }
-        } else if (criterion instanceof ProductCriteria.PriceRange priceRange) {
-            if (priceRange.minPrice() != null) {
-                queryBuilder.addWhere("p.price >= :minPrice");
-                queryBuilder.addParameter("minPrice", priceRange.minPrice());
-            }
-            if (priceRange.maxPrice() != null) {
-                queryBuilder.addWhere("p.price <= :maxPrice");
-                queryBuilder.addParameter("maxPrice", priceRange.maxPrice());
-            }
-        } else if (criterion instanceof ProductCriteria.StockGreaterThan stockGreaterThan) {
-            if (stockGreaterThan.stock() != null) {
-                queryBuilder.addWhere("p.stock > :stock");
-                queryBuilder.addParameter("stock", stockGreaterThan.stock());
-            }
-        } else if (criterion instanceof ProductCriteria.LikesGreaterThan likesGreaterThan) {
-            if (likesGreaterThan.likes() != null) {
-                queryBuilder.addWhere("p.likes > :likes");
-                queryBuilder.addParameter("likes", likesGreaterThan.likes());
-            }
+
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        return entityManager.createQuery(SUMMARIES_BY_IDS, ProductSummary.class)
+                .setParameter("ids", ids)
+                .getResultList();
     }
-    
-    private List<String> buildOrderByClauses(ProductCriteria criteria) {
-        List<String> orderByClauses = new ArrayList<>();
-        
-        if (criteria != null && criteria.criteria() != null) {
-            for (ProductCriteria.Criterion criterion : criteria.criteria()) {
-                if (criterion instanceof ProductCriteria.OrderByCreatedAt orderByCreatedAt) {
-                    orderByClauses.add("p.createdAt " + (orderByCreatedAt.ascending() ? "ASC" : "DESC"));
-                } else if (criterion instanceof ProductCriteria.OrderByPrice orderByPrice) {
-                    orderByClauses.add("p.price " + (orderByPrice.ascending() ? "ASC" : "DESC"));
-                } else if (criterion instanceof ProductCriteria.OrderByLikeCount) {
-                    orderByClauses.add("p.likes DESC");
+
+    /**
+     * 상품별 좋아요 변화량을 JDBC 배치 UPDATE 한 번으로 반영한다.
+     * 현재 값에 더하는 방식이라 행을 먼저 읽거나 잠글 필요가 없고, 여러 노드가 각자 반영해도 값이 섞이지 않는다.
+     * 데드락을 피하기 위해 항상 상품 ID 순서로 갱신한다.
+     */
+    @Override
+    public void addLikes(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(ADD_LIKES)) {
+                for (Map.Entry<Long, Long> entry : new TreeMap<>(deltas).entrySet()) {
+                    statement.setLong(1, entry.getValue());
+                    statement.setLong(2, entry.getKey());
+                    statement.addBatch();
                 }
+                statement.executeBatch();
             }
-        }
-        
-        if (orderByClauses.isEmpty()) {
-            orderByClauses.add("p.createdAt DESC");
-        }
-        
-        return orderByClauses;
+        });
     }
-    
-    private String buildMainQuery(List<String> whereClauses, List<String> orderByClauses) {
-        StringBuilder jpql = new StringBuilder("SELECT p FROM ProductEntity p");
-        
-        if (!whereClauses.isEmpty()) {
-            jpql.append(" WHERE ").append(String.join(" AND ", whereClauses));
-        }
-        
-        if (!orderByClauses.isEmpty()) {
-            jpql.append(" ORDER BY ").append(String.join(", ", orderByClauses));
+
+    /**
+     * COUNT 없이 pageSize + 1 건을 조회해 다음 페이지 존재 여부만 판단한다.
+     */
+    @Override
+    public Slice<ProductEntity> findSlice(ProductCriteria criteria, Pageable pageable) {
+        List<ProductEntity> content = new ArrayList<>(
+                findEntities(criteria, pageable.getOffset(), pageable.getPageSize() + 1)
+        );
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(pageable.getPageSize());
         }
-        
-        return jpql.toString();
+
+        return new SliceImpl<>(content, pageable, hasNext);
     }
-    
-    private String buildCountQuery(List<String> whereClauses) {
-        StringBuilder jpql = new StringBuilder("SELECT COUNT(p) FROM ProductEntity p");
-        
-        if (!whereClauses.isEmpty()) {
-            jpql.append(" WHERE ").append(String.join(" AND ", whereClauses));
+
+    /**
+     * 커서 기반 조회. OFFSET 대신 마지막으로 본 (정렬 키, id) 이후의 행부터 읽기 때문에
+     * 몇 번째 페이지든 첫 페이지와 같은 비용으로 조회된다.
+     */
+    @Override
+    public Slice<ProductEntity> findAllByCursor(ProductCriteria criteria, ProductCursor cursor, int size) {
+        TypedQuery<ProductEntity> query = productQueryRegistry.create(
+                ProductQueryShape.forCursor(criteria, cursor != null), ProductEntity.class, criteria, cursor
+        );
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        query.setMaxResults(size + 1);
+        List<ProductEntity> content = new ArrayList<>(query.getResultList());
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content.remove(size);
         }
-        
-        return jpql.toString();
+
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
     }
-    
-    private void setParameters(TypedQuery<?> query, List<Parameter> parameters) {
-        for (Parameter parameter : parameters) {
-            query.setParameter(parameter.name(), parameter.value());
+
+    private List<ProductEntity> findEntities(ProductCriteria criteria, long offset, int limit) {
+        if (isDeepPage(offset)) {
+            return findByDeferredJoin(criteria, offset, limit, ENTITIES_BY_IDS, ProductEntity.class, ProductEntity::getId);
         }
+        TypedQuery<ProductEntity> query = productQueryRegistry.create(
+                ProductQueryShape.of(ProductQueryShape.Kind.ENTITY, criteria), ProductEntity.class, criteria
+        );
+        query.setFirstResult((int) offset);
+        query.setMaxResults(limit);
+        return query.getResultList();
     }
-    
-    private static class QueryBuilder {
-        private final List<String> whereClauses = new ArrayList<>();
-        private final List<Parameter> parameters = new ArrayList<>();
-        
-        public void addWhere(String whereClause) {
-            whereClauses.add(whereClause);
-        }
-        
-        public void addParameter(String name, Object value) {
-            parameters.add(new Parameter(name, value));
-        }
-        
-        public List<String> getWhereClauses() {
-            return whereClauses;
-        }
-        
-        public List<Parameter> getParameters() {
-            return parameters;
-        }
+
+    private boolean isDeepPage(long offset) {
+        return offset >= deferredJoinOffsetThreshold;
     }
-    
-    private static class Parameter {
-        private final String name;
-        private final Object value;
-        
-        public Parameter(String name, Object value) {
-            this.name = name;
-            this.value = value;
-        }
-        
-        public String name() {
-            return name;
-        }
-        
-        public Object value() {
-            return value;
+
+    /**
+     * 같은 조건과 정렬로 ID 만 OFFSET/LIMIT 조회한 뒤, 그 ID 의 행만 읽어 ID 순서대로 돌려준다.
+     * 건너뛰는 행은 인덱스에서만 읽히므로 OFFSET 이 커져도 전체 행을 읽지 않는다.
+     */
+    private <T> List<T> findByDeferredJoin(
+            ProductCriteria criteria,
+            long offset,
+            int limit,
+            String rowsByIdsJpql,
+            Class<T> rowType,
+            Function<T, Long> idOf
+    ) {
+        TypedQuery<Long> idQuery = productQueryRegistry.create(
+                ProductQueryShape.of(ProductQueryShape.Kind.ID, criteria), Long.class, criteria
+        );
+        idQuery.setFirstResult((int) offset);
+        idQuery.setMaxResults(limit);
+        List<Long> ids = idQuery.getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
         }
+
+        Map<Long, T> rowById = entityManager.createQuery(rowsByIdsJpql, rowType)
+                .setParameter("ids", ids)
+                .getResultList()
+                .stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(rowById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private long count(ProductCriteria criteria) {
+        return productQueryRegistry.create(
+                ProductQueryShape.of(ProductQueryShape.Kind.COUNT, criteria), Long.class, criteria
+        ).getSingleResult();
     }
-} 
\ No newline at end of file
+}
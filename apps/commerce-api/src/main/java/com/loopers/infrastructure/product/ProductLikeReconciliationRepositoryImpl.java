@@ -0,0 +1,191 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeDrift;
+import com.loopers.domain.product.ProductLikeReconciliationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좋아요 테이블을 상품 ID 범위로 스트리밍하며 상품별 건수를 세고, 상품 테이블의 좋아요 수와 비교한다.
+ * 범위 안의 상품 ID 는 촘촘하므로 건수는 (상품 ID - 시작 ID) 를 인덱스로 하는 long 배열에 센다. (박싱, 해시 없음)
+ * 잠금 없는 일관된 읽기(consistent read)만 사용하므로 점검 중에도 좋아요 요청을 막지 않는다.
+ *
+ * 시각 비교는 DB 의 UTC 시각으로 하며, DATETIME 컬럼과 시간대 변환 없이 비교되도록 LocalDateTime 으로 바인딩한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductLikeReconciliationRepositoryImpl implements ProductLikeReconciliationRepository {
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍한다.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String MAX_PRODUCT_ID = "SELECT COALESCE(MAX(id), 0) FROM product";
+    private static final String LIKED_PRODUCT_IDS_IN_RANGE =
+            "SELECT product_id FROM likes WHERE product_id >= ? AND product_id < ?";
+    private static final String PRODUCT_LIKES_IN_RANGE =
+            "SELECT id, likes FROM product WHERE id >= ? AND id < ?";
+    private static final String CURRENT_TIMESTAMP = "SELECT UTC_TIMESTAMP(6)";
+    // 점검 이후 좋아요 수가 바뀌었거나(likes) write-behind 반영 등으로 행이 갱신된(updated_at) 상품은 건너뛴다.
+    private static final String CORRECT_LIKES =
+            "UPDATE product SET likes = ?, likes_version = likes_version + 1, updated_at = UTC_TIMESTAMP(6)"
+                    + " WHERE id = ? AND likes = ? AND updated_at < ?";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public long findMaxProductId() {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(MAX_PRODUCT_ID);
+                 ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : 0L;
+            }
+        });
+    }
+
+    @Override
+    public LocalDateTime currentTimestamp() {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(CURRENT_TIMESTAMP);
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getObject(1, LocalDateTime.class);
+            }
+        });
+    }
+
+    @Override
+    public List<ProductLikeDrift> findDrifts(long fromId, long toId) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            long[] counts = new long[Math.toIntExact(toId - fromId)];
+            try (PreparedStatement statement = streamingStatement(connection, LIKED_PRODUCT_IDS_IN_RANGE)) {
+                statement.setLong(1, fromId);
+                statement.setLong(2, toId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        counts[(int) (resultSet.getLong(1) - fromId)]++;
+                    }
+                }
+            }
+
+            List<ProductLikeDrift> drifts = new ArrayList<>();
+            try (PreparedStatement statement = streamingStatement(connection, PRODUCT_LIKES_IN_RANGE)) {
+                statement.setLong(1, fromId);
+                statement.setLong(2, toId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        long productId = resultSet.getLong(1);
+                        long storedLikes = resultSet.getLong(2);
+                        long actualLikes = counts[(int) (productId - fromId)];
+                        if (storedLikes != actualLikes) {
+                            drifts.add(new ProductLikeDrift(productId, storedLikes, actualLikes));
+                        }
+                    }
+                }
+            }
+            return drifts;
+        });
+    }
+
+    @Override
+    public List<ProductLikeDrift> findQuietDrifts(Collection<Long> productIds, LocalDateTime quietSince) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Map<Long, Long> counts = new HashMap<>();
+            Set<Long> recentlyLiked = new HashSet<>();
+            String countSql = "SELECT product_id, COUNT(*), MAX(created_at) >= ? FROM likes"
+                    + " WHERE product_id IN (" + placeholders + ") GROUP BY product_id";
+            try (PreparedStatement statement = connection.prepareStatement(countSql)) {
+                statement.setObject(1, quietSince);
+                bindIds(statement, 2, productIds);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        counts.put(resultSet.getLong(1), resultSet.getLong(2));
+                        if (resultSet.getBoolean(3)) {
+                            recentlyLiked.add(resultSet.getLong(1));
+                        }
+                    }
+                }
+            }
+
+            List<ProductLikeDrift> drifts = new ArrayList<>();
+            String likesSql = "SELECT id, likes FROM product WHERE id IN (" + placeholders + ") AND updated_at < ?";
+            try (PreparedStatement statement = connection.prepareStatement(likesSql)) {
+                bindIds(statement, 1, productIds);
+                statement.setObject(productIds.size() + 1, quietSince);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        long productId = resultSet.getLong(1);
+                        long storedLikes = resultSet.getLong(2);
+                        long actualLikes = counts.getOrDefault(productId, 0L);
+                        if (storedLikes != actualLikes && !recentlyLiked.contains(productId)) {
+                            drifts.add(new ProductLikeDrift(productId, storedLikes, actualLikes));
+                        }
+                    }
+                }
+            }
+            return drifts;
+        });
+    }
+
+    @Override
+    public List<Long> correct(List<ProductLikeDrift> drifts, LocalDateTime quietSince) {
+        if (drifts.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(CORRECT_LIKES)) {
+                for (ProductLikeDrift drift : drifts) {
+                    statement.setLong(1, drift.actualLikes());
+                    statement.setLong(2, drift.productId());
+                    statement.setLong(3, drift.storedLikes());
+                    statement.setObject(4, quietSince);
+                    statement.addBatch();
+                }
+                int[] updated = statement.executeBatch();
+
+                // 점검 이후 바뀐 상품은 갱신되지 않으며, 다음 점검에서 다시 확인한다.
+                List<Long> corrected = new ArrayList<>();
+                for (int i = 0; i < updated.length; i++) {
+                    if (updated[i] > 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+                        corrected.add(drifts.get(i).productId());
+                    }
+                }
+                return corrected;
+            }
+        });
+    }
+
+    private PreparedStatement streamingStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(STREAMING_FETCH_SIZE);
+        return statement;
+    }
+
+    private void bindIds(PreparedStatement statement, int startIndex, Collection<Long> productIds) throws SQLException {
+        int index = startIndex;
+        for (Long productId : productIds) {
+            statement.setLong(index++, productId);
+        }
+    }
+}
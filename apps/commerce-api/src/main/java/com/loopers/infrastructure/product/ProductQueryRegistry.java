@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 목록 쿼리 형태별로 JPQL 을 한 번만 만들어 named query 로 등록해 둔다.
+ * 이후 같은 형태의 요청은 JPQL 문자열을 다시 조립하지 않고 등록된 쿼리를 꺼내 파라미터만 바인딩한다.
+ * HQL 해석 결과는 named query 여부와 관계없이 Hibernate 의 쿼리 해석 캐시(query plan cache)에서 재사용되므로,
+ * 여기서 줄어드는 것은 요청마다의 문자열 조립뿐이다.
+ * 형태의 수는 (검색 조건 조합 x 정렬 조건) 으로 제한되어 있어 등록되는 쿼리 수도 작다.
+ * 트랜잭션 안에서 호출된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductQueryRegistry {
+
+    private static final String QUERY_NAME_PREFIX = "ProductQuery.";
+
+    private final EntityManager entityManager;
+    private final Map<ProductQueryShape, String> queryNames = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public <T> TypedQuery<T> create(ProductQueryShape shape, Class<T> resultClass, ProductCriteria criteria) {
+        return create(shape, resultClass, criteria, null);
+    }
+
+    public <T> TypedQuery<T> create(ProductQueryShape shape, Class<T> resultClass, ProductCriteria criteria, ProductCursor cursor) {
+        String queryName = queryNames.computeIfAbsent(shape, key -> register(key, resultClass));
+        TypedQuery<T> query = entityManager.createNamedQuery(queryName, resultClass);
+        shape.bind(query, criteria, cursor);
+        return query;
+    }
+
+    public int size() {
+        return queryNames.size();
+    }
+
+    private String register(ProductQueryShape shape, Class<?> resultClass) {
+        String queryName = QUERY_NAME_PREFIX + shape.kind().name().toLowerCase() + "." + sequence.incrementAndGet();
+        entityManager.getEntityManagerFactory()
+                .addNamedQuery(queryName, entityManager.createQuery(shape.jpql(), resultClass));
+        return queryName;
+    }
+}
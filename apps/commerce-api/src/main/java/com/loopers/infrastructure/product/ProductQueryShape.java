@@ -0,0 +1,221 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductCursor;
+import jakarta.persistence.TypedQuery;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 목록 쿼리의 형태. 어떤 검색 조건이 있는지와 정렬 순서만으로 결정되며 값은 포함하지 않는다.
+ * 같은 형태의 요청은 같은 JPQL 을 쓰므로, 형태별로 한 번만 만들어 두고 요청마다 파라미터만 바인딩한다.
+ * 조건은 요청에 들어온 순서와 무관하게 항상 같은 순서로 WHERE 절에 배치한다.
+ */
+record ProductQueryShape(
+        Kind kind,
+        int filters,
+        List<Order> orders,
+        boolean seek
+) {
+    static final String SUMMARY_SELECT = "SELECT new com.loopers.domain.product.ProductSummary("
+            + "p.id, p.name, p.brandId, b.name, p.price, p.stock, p.likes, p.updatedAt)"
+            + " FROM ProductEntity p LEFT JOIN BrandEntity b ON b.id = p.brandId";
+
+    private static final int NAME = 1;
+    private static final int BRAND = 1 << 1;
+    private static final int MIN_PRICE = 1 << 2;
+    private static final int MAX_PRICE = 1 << 3;
+    private static final int STOCK = 1 << 4;
+    private static final int LIKES = 1 << 5;
+
+    enum Kind {
+        ENTITY("SELECT p FROM ProductEntity p"),
+        SUMMARY(SUMMARY_SELECT),
+        // 지연 조인용. 인덱스만으로 정렬과 OFFSET 을 처리하도록 ID 만 조회한다.
+        ID("SELECT p.id FROM ProductEntity p"),
+        COUNT("SELECT COUNT(p) FROM ProductEntity p");
+
+        private final String select;
+
+        Kind(String select) {
+            this.select = select;
+        }
+    }
+
+    enum Order {
+        CREATED_AT_ASC("p.createdAt", true),
+        CREATED_AT_DESC("p.createdAt", false),
+        PRICE_ASC("p.price", true),
+        PRICE_DESC("p.price", false),
+        LIKES_DESC("p.likes", false),
+        ID_ASC("p.id", true),
+        ID_DESC("p.id", false);
+
+        private final String column;
+        private final boolean ascending;
+
+        Order(String column, boolean ascending) {
+            this.column = column;
+            this.ascending = ascending;
+        }
+
+        static Order of(ProductCriteria.Criterion criterion) {
+            if (criterion instanceof ProductCriteria.OrderByCreatedAt orderByCreatedAt) {
+                return orderByCreatedAt.ascending() ? CREATED_AT_ASC : CREATED_AT_DESC;
+            }
+            if (criterion instanceof ProductCriteria.OrderByPrice orderByPrice) {
+                return orderByPrice.ascending() ? PRICE_ASC : PRICE_DESC;
+            }
+            if (criterion instanceof ProductCriteria.OrderByLikeCount) {
+                return LIKES_DESC;
+            }
+            return null;
+        }
+
+        private String clause() {
+            return column + (ascending ? " ASC" : " DESC");
+        }
+    }
+
+    /**
+     * OFFSET 기반 목록 조회 형태. 정렬 조건이 없으면 최신순으로 정렬한다.
+     */
+    static ProductQueryShape of(Kind kind, ProductCriteria criteria) {
+        if (kind == Kind.COUNT) {
+            // 건수 조회는 정렬과 무관하므로 정렬만 다른 요청이 같은 쿼리를 공유한다.
+            return new ProductQueryShape(kind, filters(criteria), List.of(), false);
+        }
+
+        List<Order> orders = new ArrayList<>();
+        if (criteria != null && criteria.criteria() != null) {
+            for (ProductCriteria.Criterion criterion : criteria.criteria()) {
+                Order order = Order.of(criterion);
+                if (order != null) {
+                    orders.add(order);
+                }
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add(Order.CREATED_AT_DESC);
+        }
+        return new ProductQueryShape(kind, filters(criteria), List.copyOf(orders), false);
+    }
+
+    /**
+     * 커서 기반 조회 형태. 첫 번째 정렬 조건과 같은 방향의 ID 로 순서를 고정하고, 커서가 있으면 seek 조건을 붙인다.
+     */
+    static ProductQueryShape forCursor(ProductCriteria criteria, boolean seek) {
+        Order primary = criteria != null
+                ? Order.of(criteria.primaryOrder())
+                : Order.CREATED_AT_DESC;
+        Order tieBreaker = primary.ascending ? Order.ID_ASC : Order.ID_DESC;
+        return new ProductQueryShape(Kind.ENTITY, filters(criteria), List.of(primary, tieBreaker), seek);
+    }
+
+    String jpql() {
+        List<String> whereClauses = new ArrayList<>();
+        whereClauses.add("p.deletedAt IS NULL");
+        if ((filters & NAME) != 0) {
+            whereClauses.add("LOWER(p.name) LIKE LOWER(:name)");
+        }
+        if ((filters & BRAND) != 0) {
+            whereClauses.add("p.brandId = :brandId");
+        }
+        if ((filters & MIN_PRICE) != 0) {
+            whereClauses.add("p.price >= :minPrice");
+        }
+        if ((filters & MAX_PRICE) != 0) {
+            whereClauses.add("p.price <= :maxPrice");
+        }
+        if ((filters & STOCK) != 0) {
+            whereClauses.add("p.stock > :stock");
+        }
+        if ((filters & LIKES) != 0) {
+            whereClauses.add("p.likes > :likes");
+        }
+        if (seek) {
+            Order primary = orders.get(0);
+            String operator = primary.ascending ? ">" : "<";
+            whereClauses.add("(" + primary.column + " " + operator + " :cursorValue"
+                    + " OR (" + primary.column + " = :cursorValue AND p.id " + operator + " :cursorId))");
+        }
+
+        StringBuilder jpql = new StringBuilder(kind.select)
+                .append(" WHERE ")
+                .append(String.join(" AND ", whereClauses));
+        if (!orders.isEmpty()) {
+            jpql.append(" ORDER BY ")
+                    .append(String.join(", ", orders.stream().map(Order::clause).toList()));
+        }
+        return jpql.toString();
+    }
+
+    /**
+     * 형태를 만들 때와 같은 규칙으로 요청의 검색 조건 값을 바인딩한다.
+     */
+    void bind(TypedQuery<?> query, ProductCriteria criteria, ProductCursor cursor) {
+        if (criteria != null && criteria.criteria() != null) {
+            for (ProductCriteria.Criterion criterion : criteria.criteria()) {
+                if (criterion instanceof ProductCriteria.NameContains nameContains) {
+                    if (StringUtils.hasText(nameContains.name())) {
+                        query.setParameter("name", "%" + nameContains.name() + "%");
+                    }
+                } else if (criterion instanceof ProductCriteria.BrandIdEquals brandIdEquals) {
+                    if (brandIdEquals.brandId() != null) {
+                        query.setParameter("brandId", brandIdEquals.brandId());
+                    }
+                } else if (criterion instanceof ProductCriteria.PriceRange priceRange) {
+                    if (priceRange.minPrice() != null) {
+                        query.setParameter("minPrice", priceRange.minPrice());
+                    }
+                    if (priceRange.maxPrice() != null) {
+                        query.setParameter("maxPrice", priceRange.maxPrice());
+                    }
+                } else if (criterion instanceof ProductCriteria.StockGreaterThan stockGreaterThan) {
+                    if (stockGreaterThan.stock() != null) {
+                        query.setParameter("stock", stockGreaterThan.stock());
+                    }
+                } else if (criterion instanceof ProductCriteria.LikesGreaterThan likesGreaterThan) {
+                    if (likesGreaterThan.likes() != null) {
+                        query.setParameter("likes", likesGreaterThan.likes());
+                    }
+                }
+            }
+        }
+
+        if (seek && cursor != null) {
+            query.setParameter("cursorValue", orders.get(0).column.equals("p.createdAt")
+                    ? cursor.sortValueAsCreatedAt()
+                    : cursor.sortValue());
+            query.setParameter("cursorId", cursor.id());
+        }
+    }
+
+    private static int filters(ProductCriteria criteria) {
+        int filters = 0;
+        if (criteria == null || criteria.criteria() == null) {
+            return filters;
+        }
+        for (ProductCriteria.Criterion criterion : criteria.criteria()) {
+            if (criterion instanceof ProductCriteria.NameContains nameContains && StringUtils.hasText(nameContains.name())) {
+                filters |= NAME;
+            } else if (criterion instanceof ProductCriteria.BrandIdEquals brandIdEquals && brandIdEquals.brandId() != null) {
+                filters |= BRAND;
+            } else if (criterion instanceof ProductCriteria.PriceRange priceRange) {
+                if (priceRange.minPrice() != null) {
+                    filters |= MIN_PRICE;
+                }
+                if (priceRange.maxPrice() != null) {
+                    filters |= MAX_PRICE;
+                }
+            } else if (criterion instanceof ProductCriteria.StockGreaterThan stockGreaterThan && stockGreaterThan.stock() != null) {
+                filters |= STOCK;
+            } else if (criterion instanceof ProductCriteria.LikesGreaterThan likesGreaterThan && likesGreaterThan.likes() != null) {
+                filters |= LIKES;
+            }
+        }
+        return filters;
+    }
+}
@@ -0,0 +1,118 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRankingRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 좋아요 수를 점수로 하는 Redis Sorted Set.
+ * 전체 랭킹과 브랜드별 랭킹을 따로 두어 브랜드 필터 조회도 ZREVRANGE 한 번으로 처리한다.
+ * 좋아요 수가 같으면 Redis 의 멤버 사전순 역순으로 정렬된다.
+ *
+ * 상품별로 마지막에 반영한 좋아요 버전(likes_version)을 해시에 두고, 그보다 새로운 값만 기록한다.
+ * 채우기가 끝나면 완료 표시 키를 두며, 표시가 없으면 조회 측은 DB 정렬로 대신한다.
+ */
+@Component
+public class ProductRankingRepositoryImpl implements ProductRankingRepository {
+
+    private static final String RANKING_KEY = "ranking:product:likes";
+    private static final String BRAND_RANKING_KEY_PREFIX = RANKING_KEY + ":brand:";
+    private static final String VERSION_KEY = RANKING_KEY + ":version";
+    private static final String READY_KEY = RANKING_KEY + ":ready";
+
+    // KEYS: 전체 랭킹, 브랜드 랭킹, 버전 해시 / ARGV: 상품 ID, 좋아요 수, 버전
+    private static final DefaultRedisScript<Long> UPDATE_IF_NEWER_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('hget', KEYS[3], ARGV[1]) "
+                    + "if current and tonumber(current) >= tonumber(ARGV[3]) then return 0 end "
+                    + "redis.call('hset', KEYS[3], ARGV[1], ARGV[3]) "
+                    + "redis.call('zadd', KEYS[1], ARGV[2], ARGV[1]) "
+                    + "redis.call('zadd', KEYS[2], ARGV[2], ARGV[1]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ProductRankingRepositoryImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void updateLikes(Long productId, Long brandId, long likes, long likesVersion) {
+        // 커밋된 좋아요 수를 그대로 기록하되, 이벤트가 중복되거나 순서가 바뀌어 이전 값이 늦게 오면 버전을 보고 버린다.
+        redisTemplate.execute(
+                UPDATE_IF_NEWER_SCRIPT,
+                List.of(RANKING_KEY, brandKey(brandId), VERSION_KEY),
+                String.valueOf(productId), String.valueOf(likes), String.valueOf(likesVersion)
+        );
+    }
+
+    @Override
+    public void saveAllIfAbsent(List<ProductEntity> products) {
+        byte[] rankingKey = RANKING_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] versionKey = VERSION_KEY.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ProductEntity product : products) {
+                byte[] member = String.valueOf(product.getId()).getBytes(StandardCharsets.UTF_8);
+                double score = product.getLikes() != null ? product.getLikes() : 0L;
+                connection.zSetCommands().zAdd(rankingKey, score, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+                connection.zSetCommands().zAdd(
+                        brandKey(product.getBrandId()).getBytes(StandardCharsets.UTF_8),
+                        score,
+                        member,
+                        RedisZSetCommands.ZAddArgs.ifNotExists()
+                );
+                byte[] version = String.valueOf(product.getLikesVersion()).getBytes(StandardCharsets.UTF_8);
+                connection.hashCommands().hSetNX(versionKey, member, version);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void markReady() {
+        redisTemplate.opsForValue().set(READY_KEY, "1");
+    }
+
+    @Override
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+    }
+
+    @Override
+    public List<Long> findIdsOrderByLikes(Long brandId, long offset, int size) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key(brandId), offset, offset + size - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    @Override
+    public long count(Long brandId) {
+        Long count = redisTemplate.opsForZSet().zCard(key(brandId));
+        return count != null ? count : 0L;
+    }
+
+    private String key(Long brandId) {
+        return brandId != null ? brandKey(brandId) : RANKING_KEY;
+    }
+
+    private String brandKey(Long brandId) {
+        return BRAND_RANKING_KEY_PREFIX + brandId;
+    }
+}
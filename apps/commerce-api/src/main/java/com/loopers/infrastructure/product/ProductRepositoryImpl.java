@@ -1,14 +1,20 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -32,11 +38,41 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findAll(criteria, pageable);
     }
 
+    @Override
+    public Page<ProductSummary> findSummaries(ProductCriteria criteria, Pageable pageable) {
+        return productJpaRepository.findSummaries(criteria, pageable);
+    }
+
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> ids) {
+        return productJpaRepository.findSummariesByIds(ids);
+    }
+
+    @Override
+    public Slice<ProductEntity> findSlice(ProductCriteria criteria, Pageable pageable) {
+        return productJpaRepository.findSlice(criteria, pageable);
+    }
+
+    @Override
+    public Slice<ProductEntity> findByCursor(ProductCriteria criteria, ProductCursor cursor, int size) {
+        return productJpaRepository.findAllByCursor(criteria, cursor, size);
+    }
+
     @Override
     public Optional<ProductEntity> findById(Long productId) {
         return productJpaRepository.findById(productId);
     }
     
+    @Override
+    public List<ProductEntity> findAllByIds(Collection<Long> ids) {
+        return productJpaRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<ProductEntity> findAllByIdGreaterThan(Long lastId, int size) {
+        return productJpaRepository.findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(lastId, PageRequest.of(0, size));
+    }
+
     @Override
     public boolean existsById(Long productId) {
         return productJpaRepository.existsById(productId);
@@ -56,4 +92,9 @@ public class ProductRepositoryImpl implements ProductRepository {
     public List<ProductEntity> findByIdsWithLock(List<Long> ids) {
         return productJpaRepository.findByIdsWithLock(ids);
     }
+
+    @Override
+    public void addLikes(Map<Long, Long> deltas) {
+        productJpaRepository.addLikes(deltas);
+    }
 }
@@ -0,0 +1,45 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.jpa.ReadYourWritesTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청의 사용자(X-USER-ID)를 DB 라우팅에 묶는다.
+ * 같은 사용자가 쓰기 직후 다시 조회하면 replica 대신 primary 에서 읽어 방금 쓴 데이터를 볼 수 있다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final String USER_ID_HEADER = "X-USER-ID";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (userId == null || userId.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        readYourWritesTracker.bind(userId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.clear();
+        }
+    }
+}
@@ -40,4 +40,28 @@ public interface LikeV1ApiSpec {
             @Schema(name = "사용자 ID", description = "좋아요한 상품을 조회할 사용자의 ID")
             Long userId
     );
+
+    @Operation(
+            summary = "사용자가 좋아요한 상품 커서 조회",
+            description = "최근 좋아요 순으로 좋아요한 상품의 이름, 가격, 브랜드, 좋아요 수를 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다."
+    )
+    ApiResponse<LikeV1Dto.LikedProductCursorResponse> getLikedProductsByCursor(
+            @Schema(name = "사용자 ID", description = "좋아요한 상품을 조회할 사용자의 ID")
+            Long userId,
+            @Schema(name = "커서", description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            String cursor,
+            @Schema(name = "크기", description = "페이지당 상품 수 (최대 100)")
+            Integer size
+    );
+
+    @Operation(
+            summary = "상품별 좋아요 여부 조회",
+            description = "상품 목록의 각 상품에 대한 사용자의 좋아요 여부를 한 번에 조회합니다. (최대 100개)"
+    )
+    ApiResponse<List<LikeV1Dto.LikedFlagResponse>> getLikedFlags(
+            @Schema(name = "사용자 ID", description = "좋아요 여부를 확인할 사용자의 ID")
+            Long userId,
+            @Schema(name = "상품 ID 목록", description = "좋아요 여부를 확인할 상품 ID 목록")
+            List<Long> productIds
+    );
 }
@@ -48,4 +48,25 @@ public class LikeV1Controller implements LikeV1ApiSpec {
                 .toList();
         return ApiResponse.success(responses);
     }
+
+    @GetMapping("/cursor")
+    @Override
+    public ApiResponse<LikeV1Dto.LikedProductCursorResponse> getLikedProductsByCursor(
+            @RequestHeader("X-USER-ID") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        var likedProductCursorInfo = likeFacade.getLikedProductsByCursor(userId, cursor, size);
+        return ApiResponse.success(LikeV1Dto.LikedProductCursorResponse.from(likedProductCursorInfo));
+    }
+
+    @GetMapping("/flags")
+    @Override
+    public ApiResponse<List<LikeV1Dto.LikedFlagResponse>> getLikedFlags(
+            @RequestHeader("X-USER-ID") Long userId,
+            @RequestParam("productIds") List<Long> productIds
+    ) {
+        var flags = likeFacade.getLikedFlags(userId, productIds);
+        return ApiResponse.success(LikeV1Dto.LikedFlagResponse.from(flags));
+    }
 }
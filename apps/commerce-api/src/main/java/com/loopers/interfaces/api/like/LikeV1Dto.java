@@ -1,13 +1,21 @@
 package com.loopers.interfaces.api.like;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.loopers.application.like.LikeInfo;
+import com.loopers.application.like.LikedProductCursorInfo;
+import com.loopers.application.like.LikedProductInfo;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.List;
+import java.util.Map;
+
 public class LikeV1Dto {
 
     @Schema(name = "좋아요 응답")
     public record LikeResponse(
-            @Schema(description = "좋아요 ID")
+            // 시간순 ID 는 2^53 을 넘으므로 JavaScript 에서 정밀도를 잃지 않도록 문자열로 내려준다.
+            @Schema(description = "좋아요 ID (문자열)", type = "string")
+            @JsonFormat(shape = JsonFormat.Shape.STRING)
             Long id,
             @Schema(description = "사용자 ID")
             Long userId,
@@ -22,4 +30,67 @@ public class LikeV1Dto {
             );
         }
     }
+
+    @Schema(name = "좋아요한 상품 응답")
+    public record LikedProductResponse(
+            @Schema(description = "좋아요 ID (문자열)", type = "string")
+            @JsonFormat(shape = JsonFormat.Shape.STRING)
+            Long likeId,
+            @Schema(description = "상품 ID")
+            Long productId,
+            @Schema(description = "상품명")
+            String name,
+            @Schema(description = "가격")
+            Long price,
+            @Schema(description = "브랜드 ID")
+            Long brandId,
+            @Schema(description = "브랜드명")
+            String brandName,
+            @Schema(description = "좋아요 수")
+            Long likes
+    ) {
+        public static LikedProductResponse from(LikedProductInfo likedProductInfo) {
+            var product = likedProductInfo.product();
+            return new LikedProductResponse(
+                    likedProductInfo.likeId(),
+                    product.id(),
+                    product.name(),
+                    product.price(),
+                    product.brandId(),
+                    product.brandName(),
+                    product.likes()
+            );
+        }
+    }
+
+    @Schema(name = "좋아요한 상품 커서 목록 응답")
+    public record LikedProductCursorResponse(
+            List<LikedProductResponse> products,
+            String nextCursor,
+            Boolean hasNext
+    ) {
+        public static LikedProductCursorResponse from(LikedProductCursorInfo cursorInfo) {
+            return new LikedProductCursorResponse(
+                    cursorInfo.products().stream()
+                            .map(LikedProductResponse::from)
+                            .toList(),
+                    cursorInfo.nextCursor(),
+                    cursorInfo.hasNext()
+            );
+        }
+    }
+
+    @Schema(name = "상품별 좋아요 여부 응답")
+    public record LikedFlagResponse(
+            @Schema(description = "상품 ID")
+            Long productId,
+            @Schema(description = "요청한 사용자의 좋아요 여부")
+            boolean likedByMe
+    ) {
+        public static List<LikedFlagResponse> from(Map<Long, Boolean> flags) {
+            return flags.entrySet().stream()
+                    .map(entry -> new LikedFlagResponse(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.loopers.interfaces.api.product;
+
+import java.io.Serializable;
+
+/**
+ * 직렬화가 끝난 상품 API 응답. 캐시 히트 시 본문 바이트와 검증 헤더를 그대로 내려준다.
+ * lastModified 가 없으면 -1 이다.
+ */
+public record CachedProductResponse(
+        byte[] body,
+        String contentType,
+        String etag,
+        long lastModified
+) implements Serializable {
+}
@@ -0,0 +1,43 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.application.product.ProductInfo;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 상품 응답의 조건부 요청(If-None-Match) 검증용 ETag.
+ * 응답 본문을 직렬화하지 않고 캐시에서 꺼낸 상품 정보만으로 만든다.
+ * 본문 바이트가 아니라 내용의 버전에서 만든 값이므로 약한(weak) ETag 로 내려준다.
+ */
+final class ProductETag {
+
+    private ProductETag() {
+    }
+
+    /**
+     * 상품 상세는 ID 와 마지막 수정 시각으로 만든다. 브랜드명은 상품과 따로 바뀔 수 있어 함께 반영한다.
+     */
+    static String of(ProductInfo productInfo) {
+        if (productInfo.version() == null) {
+            return weak(Integer.toHexString(productInfo.hashCode()));
+        }
+        return weak(productInfo.id() + "-" + productInfo.version() + "-" + Integer.toHexString(Objects.hashCode(productInfo.brandName())));
+    }
+
+    /**
+     * 목록은 페이지 위치, 전체 건수와 각 상품의 내용으로 해시를 만든다.
+     * 레코드의 hashCode 는 버전을 포함한 모든 필드를 반영하므로, 상품 하나만 바뀌어도 값이 달라진다.
+     */
+    static String of(List<ProductInfo> productInfos, long totalElements, int pageNumber) {
+        long hash = 31L * totalElements + pageNumber;
+        for (ProductInfo productInfo : productInfos) {
+            hash = (hash ^ productInfo.hashCode()) * 0x100000001B3L;
+        }
+        return weak(Long.toHexString(hash));
+    }
+
+    private static String weak(String tag) {
+        return "W/\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,159 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.application.product.ProductListCache;
+import com.loopers.domain.product.ProductCriteria;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+/**
+ * 상품 상세/목록 GET 응답 본문을 직렬화된 바이트로 캐시한다.
+ * 히트하면 컨트롤러, DTO 변환, Jackson 직렬화를 모두 건너뛰고 저장된 바이트를 출력 스트림에 바로 쓴다.
+ * 미스이면 컨트롤러가 만든 200 응답 본문을 그대로 저장한다.
+ *
+ * 상세 응답은 상품 상세 캐시와 같은 시점에(ProductFacade), 목록 응답은 목록 캐시 태그의 세대 번호로(ProductListCache) 무효화된다.
+ */
+@Slf4j
+@Component
+public class ProductResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String LIST_PATH = "/api/v1/products";
+    private static final String DETAIL_PATH_PREFIX = LIST_PATH + "/";
+    private static final Set<String> LIST_PARAMETERS = Set.of("brandId", "sort", "page", "size");
+
+    private final boolean enabled;
+    private final CacheManager cacheManager;
+    private final ProductListCache productListCache;
+
+    public ProductResponseCacheFilter(
+            @Value("${product.response-cache.enabled:false}") boolean enabled,
+            CacheManager cacheManager,
+            ProductListCache productListCache
+    ) {
+        this.enabled = enabled;
+        this.cacheManager = cacheManager;
+        this.productListCache = productListCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"GET".equals(request.getMethod())
+                || !request.getRequestURI().startsWith(LIST_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 목록 키의 세대 번호는 컨트롤러 실행 전에 정해진다. 실행 도중 무효화되면 이 응답은 이전 세대 키로 저장되어 다시 내려가지 않는다.
+        CacheTarget target = resolve(request);
+        Cache cache = cacheManager.getCache(ProductListCache.RESPONSE_CACHE_NAME);
+        if (target == null || cache == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Cache.ValueWrapper cached = cache.get(target.key());
+        if (cached != null && cached.get() instanceof CachedProductResponse cachedResponse) {
+            write(cachedResponse, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        try {
+            if (responseWrapper.getStatus() == HttpStatus.OK.value()) {
+                cache.put(target.key(), new CachedProductResponse(
+                        responseWrapper.getContentAsByteArray(),
+                        responseWrapper.getContentType(),
+                        responseWrapper.getHeader(HttpHeaders.ETAG),
+                        lastModified(responseWrapper.getHeader(HttpHeaders.LAST_MODIFIED))
+                ));
+            }
+        } catch (Exception e) {
+            // 응답 캐시 저장에 실패해도 요청은 정상 응답한다.
+            log.warn("상품 응답 캐시 저장 실패: key={}, error={}", target.key(), e.getMessage());
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void write(CachedProductResponse cachedResponse, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (cachedResponse.etag() != null) {
+            ServletWebRequest webRequest = new ServletWebRequest(request, response);
+            boolean notModified = cachedResponse.lastModified() >= 0
+                    ? webRequest.checkNotModified(cachedResponse.etag(), cachedResponse.lastModified())
+                    : webRequest.checkNotModified(cachedResponse.etag());
+            if (notModified) {
+                return;
+            }
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cachedResponse.contentType());
+        response.setContentLength(cachedResponse.body().length);
+        response.getOutputStream().write(cachedResponse.body());
+    }
+
+    /**
+     * 캐시할 수 있는 요청이면 캐시 키를 만든다. 알 수 없는 파라미터가 있거나 값이 잘못되었으면
+     * 컨트롤러가 그대로 처리하도록 캐시하지 않는다.
+     */
+    private CacheTarget resolve(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        try {
+            if (uri.startsWith(DETAIL_PATH_PREFIX)) {
+                String productId = uri.substring(DETAIL_PATH_PREFIX.length());
+                if (!request.getParameterMap().isEmpty() || productId.isEmpty() || !productId.chars().allMatch(Character::isDigit)) {
+                    return null;
+                }
+                return new CacheTarget("detail:" + Long.parseLong(productId));
+            }
+            if (!uri.equals(LIST_PATH) || !LIST_PARAMETERS.containsAll(request.getParameterMap().keySet())) {
+                return null;
+            }
+
+            String brandId = request.getParameter("brandId");
+            String sort = request.getParameter("sort");
+            String page = request.getParameter("page");
+            String size = request.getParameter("size");
+            ProductCriteria criteria = ProductV1Controller.toCriteria(
+                    brandId != null ? Long.valueOf(brandId) : null,
+                    sort != null ? sort : "latest"
+            );
+            Pageable pageable = PageRequest.of(
+                    page != null ? Integer.parseInt(page) : 0,
+                    size != null ? Integer.parseInt(size) : 20
+            );
+            return new CacheTarget(productListCache.responseKey(criteria, pageable));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long lastModified(String header) {
+        if (header == null) {
+            return -1;
+        }
+        return ZonedDateTime.parse(header, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+    }
+
+    private record CacheTarget(String key) {}
+}
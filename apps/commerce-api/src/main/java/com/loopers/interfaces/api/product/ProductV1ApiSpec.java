@@ -2,15 +2,19 @@ package com.loopers.interfaces.api.product;
 
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @Tag(name = "Product V1 API", description = "상품 관련 API 입니다.")
 public interface ProductV1ApiSpec {
 
     @Operation(
             summary = "상품 목록 조회",
-            description = "상품 목록을 조회합니다."
+            description = "상품 목록을 조회합니다. If-None-Match 가 응답의 ETag 와 같으면 본문 없이 304 를 반환합니다."
     )
     ApiResponse<ProductV1Dto.V1.GetProductListResponse> getProductList(
             @Schema(name = "브랜드 ID", description = "브랜드별 필터링")
@@ -20,15 +24,58 @@ public interface ProductV1ApiSpec {
             @Schema(name = "페이지", description = "페이지 번호 (0부터 시작)")
             Integer page,
             @Schema(name = "크기", description = "페이지당 상품 수")
+            Integer size,
+            @Parameter(hidden = true)
+            WebRequest webRequest
+    );
+
+    @Operation(
+            summary = "상품 일괄 조회",
+            description = "여러 상품의 상세 정보를 요청한 ID 순서대로 한 번에 조회합니다. 존재하지 않는 상품은 제외됩니다."
+    )
+    ApiResponse<ProductV1Dto.V1.GetProductsResponse> getProductsByIds(
+            @Schema(name = "상품 ID 목록", description = "조회할 상품 ID 목록 (최대 100개)")
+            List<Long> ids
+    );
+
+    @Operation(
+            summary = "상품 목록 조회 (전체 건수 제외)",
+            description = "전체 건수 없이 다음 페이지 존재 여부만 포함하여 상품 목록을 조회합니다."
+    )
+    ApiResponse<ProductV1Dto.V1.GetProductSliceResponse> getProductSlice(
+            @Schema(name = "브랜드 ID", description = "브랜드별 필터링")
+            Long brandId,
+            @Schema(name = "정렬", description = "정렬 기준 (latest, price_asc, price_desc, likes)")
+            String sort,
+            @Schema(name = "페이지", description = "페이지 번호 (0부터 시작)")
+            Integer page,
+            @Schema(name = "크기", description = "페이지당 상품 수")
+            Integer size
+    );
+
+    @Operation(
+            summary = "상품 목록 커서 조회",
+            description = "커서 기반으로 상품 목록을 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다."
+    )
+    ApiResponse<ProductV1Dto.V1.GetProductCursorListResponse> getProductListByCursor(
+            @Schema(name = "브랜드 ID", description = "브랜드별 필터링")
+            Long brandId,
+            @Schema(name = "정렬", description = "정렬 기준 (latest, price_asc, price_desc, likes)")
+            String sort,
+            @Schema(name = "커서", description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            String cursor,
+            @Schema(name = "크기", description = "페이지당 상품 수")
             Integer size
     );
 
     @Operation(
             summary = "상품 상세 조회",
-            description = "상품 ID로 상품 상세 정보를 조회합니다."
+            description = "상품 ID로 상품 상세 정보를 조회합니다. If-None-Match 나 If-Modified-Since 로 변경되지 않았음이 확인되면 본문 없이 304 를 반환합니다."
     )
     ApiResponse<ProductV1Dto.V1.ProductResponse> getProduct(
             @Schema(name = "상품 ID", description = "조회할 상품의 ID")
-            Long productId
+            Long productId,
+            @Parameter(hidden = true)
+            WebRequest webRequest
     );
 } 
\ No newline at end of file
@@ -11,6 +11,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
@@ -22,6 +25,40 @@ public class ProductV1Controller implements ProductV1ApiSpec {
     @GetMapping
     @Override
     public ApiResponse<ProductV1Dto.V1.GetProductListResponse> getProductList(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            WebRequest webRequest
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+
+        // 좋아요 순은 Redis 랭킹에서 조회한다.
+        var productInfoPage = "likes".equals(sort)
+                ? productFacade.findProductsOrderByLikes(brandId, pageable)
+                : productFacade.findProducts(toCriteria(brandId, sort), pageable);
+
+        // 클라이언트가 같은 페이지를 가지고 있으면 본문 없이 304 로 응답한다.
+        String etag = ProductETag.of(productInfoPage.getContent(), productInfoPage.getTotalElements(), pageable.getPageNumber());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProductV1Dto.V1.GetProductListResponse response = ProductV1Dto.V1.GetProductListResponse.from(productInfoPage);
+
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping(params = "ids")
+    @Override
+    public ApiResponse<ProductV1Dto.V1.GetProductsResponse> getProductsByIds(@RequestParam List<Long> ids) {
+        var productInfos = productFacade.findProductsByIds(ids);
+        ProductV1Dto.V1.GetProductsResponse response = ProductV1Dto.V1.GetProductsResponse.from(productInfos);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/slice")
+    @Override
+    public ApiResponse<ProductV1Dto.V1.GetProductSliceResponse> getProductSlice(
             @RequestParam(required = false) Long brandId,
             @RequestParam(required = false, defaultValue = "latest") String sort,
             @RequestParam(required = false, defaultValue = "0") Integer page,
@@ -29,6 +66,47 @@ public class ProductV1Controller implements ProductV1ApiSpec {
     ) {
         Pageable pageable = PageRequest.of(page, size);
 
+        ProductCriteria criteria = toCriteria(brandId, sort);
+
+        var productInfoSlice = productFacade.findProductSlice(criteria, pageable);
+        ProductV1Dto.V1.GetProductSliceResponse response = ProductV1Dto.V1.GetProductSliceResponse.from(productInfoSlice);
+
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/cursor")
+    @Override
+    public ApiResponse<ProductV1Dto.V1.GetProductCursorListResponse> getProductListByCursor(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        ProductCriteria criteria = toCriteria(brandId, sort);
+
+        var productCursorInfo = productFacade.findProductsByCursor(criteria, cursor, size);
+        ProductV1Dto.V1.GetProductCursorListResponse response = ProductV1Dto.V1.GetProductCursorListResponse.from(productCursorInfo);
+
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/{productId}")
+    @Override
+    public ApiResponse<ProductV1Dto.V1.ProductResponse> getProduct(@PathVariable Long productId, WebRequest webRequest) {
+        var productInfo = productFacade.findProductById(productId);
+
+        // 클라이언트가 가진 상품 정보가 최신이면 본문 없이 304 로 응답한다.
+        boolean notModified = productInfo.version() != null
+                ? webRequest.checkNotModified(ProductETag.of(productInfo), productInfo.version())
+                : webRequest.checkNotModified(ProductETag.of(productInfo));
+        if (notModified) {
+            return null;
+        }
+        ProductV1Dto.V1.ProductResponse response = ProductV1Dto.V1.ProductResponse.from(productInfo);
+        return ApiResponse.success(response);
+    }
+
+    static ProductCriteria toCriteria(Long brandId, String sort) {
         ProductCriteria criteria = switch (sort) {
             case "price_asc" -> ProductCriteria.orderByPrice(true);
             case "price_desc" -> ProductCriteria.orderByPrice(false);
@@ -44,18 +122,6 @@ public class ProductV1Controller implements ProductV1ApiSpec {
             newCriteria.add(new com.loopers.domain.product.ProductCriteria.BrandIdEquals(brandId));
             criteria = new ProductCriteria(newCriteria);
         }
-
-        var productInfoPage = productFacade.findProducts(criteria, pageable);
-        ProductV1Dto.V1.GetProductListResponse response = ProductV1Dto.V1.GetProductListResponse.from(productInfoPage);
-
-        return ApiResponse.success(response);
-    }
-
-    @GetMapping("/{productId}")
-    @Override
-    public ApiResponse<ProductV1Dto.V1.ProductResponse> getProduct(@PathVariable Long productId) {
-        var productInfo = productFacade.findProductById(productId);
-        ProductV1Dto.V1.ProductResponse response = ProductV1Dto.V1.ProductResponse.from(productInfo);
-        return ApiResponse.success(response);
+        return criteria;
     }
 }
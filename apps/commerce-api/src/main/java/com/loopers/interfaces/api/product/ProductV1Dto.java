@@ -1,7 +1,9 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductCursorInfo;
 import com.loopers.application.product.ProductInfo;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -43,5 +45,40 @@ public class ProductV1Dto {
                 );
             }
         }
+
+        public record GetProductsResponse(List<ProductResponse> products) {
+
+            public static GetProductsResponse from(List<ProductInfo> productInfos) {
+                return new GetProductsResponse(productInfos.stream()
+                        .map(ProductResponse::from)
+                        .toList());
+            }
+        }
+
+        public record GetProductSliceResponse(List<ProductResponse> products, Boolean hasNext) {
+
+            public static GetProductSliceResponse from(Slice<ProductInfo> productInfoSlice) {
+                List<ProductResponse> productResponses = productInfoSlice.getContent().stream()
+                        .map(ProductResponse::from)
+                        .toList();
+
+                return new GetProductSliceResponse(productResponses, productInfoSlice.hasNext());
+            }
+        }
+
+        public record GetProductCursorListResponse(List<ProductResponse> products, String nextCursor, Boolean hasNext) {
+
+            public static GetProductCursorListResponse from(ProductCursorInfo productCursorInfo) {
+                List<ProductResponse> productResponses = productCursorInfo.products().stream()
+                        .map(ProductResponse::from)
+                        .toList();
+
+                return new GetProductCursorListResponse(
+                        productResponses,
+                        productCursorInfo.nextCursor(),
+                        productCursorInfo.hasNext()
+                );
+            }
+        }
     }
 }
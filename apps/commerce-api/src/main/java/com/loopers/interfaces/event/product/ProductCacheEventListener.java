@@ -0,0 +1,55 @@
+package com.loopers.interfaces.event.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductListCache;
+import com.loopers.domain.product.ProductEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+
+/**
+ * 상품 변경이 커밋된 뒤에 영향을 받는 목록 캐시 태그만 무효화한다. 상품이 생성되면 목록 건수 캐시도,
+ * 좋아요 수가 바뀌면 상세 캐시(데이터와 응답 본문)도 무효화한다.
+ * (롤백된 변경으로 캐시를 지우지 않도록 AFTER_COMMIT 에서 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheEventListener {
+
+    private final ProductListCache productListCache;
+    private final ProductFacade productFacade;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.ProductCreated event) {
+        invalidate(event.brandId(), event.affectedSortKeys());
+        try {
+            productFacade.evictProductCount();
+        } catch (Exception e) {
+            log.warn("상품 목록 건수 캐시 무효화 실패: productId={}, error={}", event.productId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.ProductLikesChanged event) {
+        invalidate(event.brandId(), event.affectedSortKeys());
+        try {
+            productFacade.evictProductCacheForLikes(event.productId());
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 무효화 실패: productId={}, error={}", event.productId(), e.getMessage());
+        }
+    }
+
+    private void invalidate(Long brandId, Set<ProductEvent.SortKey> sortKeys) {
+        try {
+            productListCache.invalidate(brandId, sortKeys);
+        } catch (Exception e) {
+            // 이미 커밋된 요청을 실패시키지 않는다. 남은 엔트리는 TTL 로 만료된다.
+            log.warn("상품 목록 캐시 무효화 실패: brandId={}, sortKeys={}, error={}", brandId, sortKeys, e.getMessage());
+        }
+    }
+}
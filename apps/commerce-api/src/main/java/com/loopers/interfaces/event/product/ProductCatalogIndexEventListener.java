@@ -0,0 +1,54 @@
+package com.loopers.interfaces.event.product;
+
+import com.loopers.domain.product.ProductCatalogIndex;
+import com.loopers.domain.product.ProductEvent;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 상품 변경을 메모리 인덱스에 반영한다.
+ * 리스너는 커밋 순서와 다르게 실행될 수 있으므로, 좋아요 수는 likesVersion 으로 이전 이벤트를 걸러낸다.
+ * 반영에 실패해도 주기적인 재적재로 다시 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogIndexEventListener {
+
+    private final ProductCatalogIndex productCatalogIndex;
+    private final ProductService productService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.ProductCreated event) {
+        if (!productCatalogIndex.isEnabled()) {
+            return;
+        }
+        try {
+            productService.findById(event.productId()).ifPresent(productCatalogIndex::upsert);
+        } catch (Exception e) {
+            log.warn("상품 인덱스 반영 실패: productId={}, error={}", event.productId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.ProductLikesChanged event) {
+        try {
+            productCatalogIndex.updateLikes(event.productId(), event.likes(), event.likesVersion());
+        } catch (Exception e) {
+            log.warn("상품 인덱스 좋아요 수 반영 실패: productId={}, error={}", event.productId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.ProductStockChanged event) {
+        try {
+            productCatalogIndex.updateStock(event.productId(), event.stock());
+        } catch (Exception e) {
+            log.warn("상품 인덱스 재고 반영 실패: productId={}, error={}", event.productId(), e.getMessage());
+        }
+    }
+}
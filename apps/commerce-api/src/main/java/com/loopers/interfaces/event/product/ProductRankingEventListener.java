@@ -0,0 +1,39 @@
+package com.loopers.interfaces.event.product;
+
+import com.loopers.domain.product.ProductEvent;
+import com.loopers.domain.product.ProductRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 좋아요 수를 좋아요 순 랭킹에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingEventListener {
+
+    private final ProductRankingService productRankingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.ProductCreated event) {
+        updateLikes(event.productId(), event.brandId(), event.likes(), event.likesVersion());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.ProductLikesChanged event) {
+        updateLikes(event.productId(), event.brandId(), event.likes(), event.likesVersion());
+    }
+
+    private void updateLikes(Long productId, Long brandId, Long likes, Long likesVersion) {
+        try {
+            productRankingService.updateLikes(productId, brandId, likes, likesVersion);
+        } catch (Exception e) {
+            // 이미 커밋된 요청을 실패시키지 않는다. 다음 좋아요 변경이나 재기동 시 다시 맞춰진다.
+            log.warn("상품 랭킹 갱신 실패: productId={}, likes={}, error={}", productId, likes, e.getMessage());
+        }
+    }
+}
@@ -5,12 +5,14 @@ import com.loopers.application.product.ProductInfo;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.like.LikeCommand;
 import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikedProductCache;
 import com.loopers.domain.product.ProductCommand;
 import com.loopers.domain.user.UserCommand;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +21,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -40,18 +45,26 @@ public class LikeCacheIntegrationTest {
     @Autowired
     private LikeService likeService;
 
+    @Autowired
+    private LikedProductCache likedProductCache;
+
     @Autowired
     private CacheManager cacheManager;
 
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     private Long brandId;
     private Long productId;
     private Long userId;
 
     @BeforeEach
     void setUp() {
+        // 다른 테스트가 남긴 사용자별 좋아요 집합이 같은 사용자 ID 로 보이지 않도록 비운다.
+        redisCleanUp.truncateAll();
         brandId = brandService.create("테스트 브랜드").getId();
         
         ProductCommand.Create productCommand = new ProductCommand.Create(
@@ -68,6 +81,7 @@ public class LikeCacheIntegrationTest {
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @Test
@@ -153,4 +167,57 @@ public class LikeCacheIntegrationTest {
         var productInfo = productFacade.findProductById(productId);
         assertThat(productInfo.likes()).isEqualTo(0L);
     }
+
+    @Test
+    @DisplayName("좋아요 여부 집합이 적재된 뒤에도 좋아요와 취소가 바로 반영된다")
+    void 좋아요여부_집합이_적재된뒤에도_좋아요와_취소가_반영된다() {
+        // given
+        Long otherProductId = productId + 1000;
+        Map<Long, Boolean> beforeLike = likeFacade.getLikedFlags(userId, List.of(productId, otherProductId));
+
+        // when
+        likeFacade.like(new LikeCommand.Create(userId, productId));
+        Map<Long, Boolean> afterLike = likeFacade.getLikedFlags(userId, List.of(productId, otherProductId));
+        likeFacade.unlike(userId, productId);
+        Map<Long, Boolean> afterUnlike = likeFacade.getLikedFlags(userId, List.of(productId, otherProductId));
+
+        // then
+        assertThat(beforeLike).containsExactly(Map.entry(productId, false), Map.entry(otherProductId, false));
+        assertThat(afterLike).containsExactly(Map.entry(productId, true), Map.entry(otherProductId, false));
+        assertThat(afterUnlike).containsExactly(Map.entry(productId, false), Map.entry(otherProductId, false));
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 집합이 없으면 DB 기준으로 적재한다")
+    void 좋아요여부_집합이_없으면_DB기준으로_적재한다() {
+        // given
+        likeFacade.like(new LikeCommand.Create(userId, productId));
+        redisCleanUp.truncateAll();
+
+        // when
+        boolean liked = likeFacade.isLikedByUser(userId, productId);
+
+        // then
+        assertThat(liked).isTrue();
+        assertThat(likeFacade.getLikedFlags(userId, List.of(productId))).containsEntry(productId, true);
+    }
+
+    @Test
+    @DisplayName("DB 를 읽는 동안 좋아요 취소가 반영되었으면 읽은 값을 적재하지 않는다")
+    void DB를_읽는동안_취소가_반영되었으면_읽은값을_적재하지_않는다() {
+        // given: 좋아요가 남아 있을 때 읽기 시작한다.
+        likeFacade.like(new LikeCommand.Create(userId, productId));
+        redisCleanUp.truncateAll();
+        long version = likedProductCache.currentVersion(userId);
+        List<Long> snapshot = likeService.findLikedProductIds(userId);
+
+        // when: 읽는 동안 취소가 커밋되어 반영된 뒤, 이전 스냅샷을 적재하려 한다.
+        likeFacade.unlike(userId, productId);
+        likedProductCache.load(userId, version, snapshot);
+
+        // then
+        assertThat(snapshot).containsExactly(productId);
+        assertThat(likedProductCache.findFlags(userId, List.of(productId))).isEmpty();
+        assertThat(likeFacade.getLikedFlags(userId, List.of(productId))).containsEntry(productId, false);
+    }
 }
@@ -10,6 +10,7 @@ import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -41,9 +42,13 @@ class LikeFacadeIntegrationTest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     private UserEntity testUser;
@@ -179,6 +184,35 @@ class LikeFacadeIntegrationTest {
           .hasMessageContaining("존재하지 않는 상품입니다.");
     }
 
+    @Test
+    @DisplayName("좋아요한 상품은 최근 좋아요 순으로 커서를 따라 상품 정보와 함께 조회된다")
+    void 좋아요한_상품은_최근순으로_커서를_따라_조회된다() {
+        // given
+        Long userId = testUser.getId();
+        ProductEntity second = productService.createProduct(ProductCommand.Create.of("바지", testProduct.getBrandId(), 2000L, 10L, 0L));
+        ProductEntity third = productService.createProduct(ProductCommand.Create.of("모자", testProduct.getBrandId(), 3000L, 10L, 0L));
+        likeFacade.like(new LikeCommand.Create(userId, testProduct.getId()));
+        likeFacade.like(new LikeCommand.Create(userId, second.getId()));
+        likeFacade.like(new LikeCommand.Create(userId, third.getId()));
+
+        // when
+        LikedProductCursorInfo firstPage = likeFacade.getLikedProductsByCursor(userId, null, 2);
+        LikedProductCursorInfo secondPage = likeFacade.getLikedProductsByCursor(userId, firstPage.nextCursor(), 2);
+
+        // then
+        assertThat(firstPage.products()).extracting(liked -> liked.product().id())
+                .containsExactly(third.getId(), second.getId());
+        assertThat(firstPage.products().get(0).product().name()).isEqualTo("모자");
+        assertThat(firstPage.products().get(0).product().brandName()).isEqualTo("나이키");
+        assertThat(firstPage.products().get(0).product().likes()).isEqualTo(1L);
+        assertThat(firstPage.hasNext()).isTrue();
+
+        assertThat(secondPage.products()).extracting(liked -> liked.product().id())
+                .containsExactly(testProduct.getId());
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
     @DisplayName("좋아요/싫어요 동시성 테스트")
     @Nested
     class LikeConcurrencyTest {
@@ -0,0 +1,170 @@
+package com.loopers.application.like;
+
+import com.loopers.application.product.ProductLikeCountFlusher;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.like.LikeCommand;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductEvent;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.UserCommand;
+import com.loopers.domain.user.UserService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 수 write-behind 를 켠 상태에서, 좋아요 요청은 상품 행을 바꾸지 않고 반영 시점에 한 번에 합쳐지는지 확인한다.
+ * 스케줄러가 끼어들지 않도록 반영 주기를 길게 두고 직접 반영한다.
+ */
+@SpringBootTest(properties = {
+        "product.like-counter.write-behind.enabled=true",
+        "product.like-counter.write-behind.flush-interval-ms=3600000"
+})
+class LikeWriteBehindIntegrationTest {
+
+    @Autowired
+    private LikeFacade likeFacade;
+
+    @Autowired
+    private ProductLikeCountFlusher productLikeCountFlusher;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private FailingLikesListener failingLikesListener;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private ProductEntity testProduct;
+
+    @BeforeEach
+    void setUp() {
+        var testBrand = brandService.create("나이키").getId();
+        testProduct = productService.createProduct(ProductCommand.Create.of("티셔츠", testBrand, 1000L, 10L, 0L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        failingLikesListener.failNext.set(false);
+        productLikeCountFlusher.flush();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("여러 사용자가 동시에 좋아요를 눌러도 반영 시점에 모두 합쳐져 상품 좋아요 수에 반영된다")
+    @Test
+    void 동시_좋아요는_반영시점에_모두_합쳐진다() throws Exception {
+        // given
+        int userCount = 30;
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            userIds.add(userService.signUp(UserCommand.Create.of("user" + i, "MALE", "2000-01-01", "user" + i + "@loopers.com")).getId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(userCount);
+        AtomicInteger failureCount = new AtomicInteger(0);
+
+        // when
+        for (Long userId : userIds) {
+            executor.submit(() -> {
+                try {
+                    likeFacade.like(new LikeCommand.Create(userId, testProduct.getId()));
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        Long likesBeforeFlush = productService.findById(testProduct.getId()).orElseThrow().getLikes();
+        productLikeCountFlusher.flush();
+
+        // then
+        assertThat(failureCount.get()).isZero();
+        assertThat(likesBeforeFlush).isZero();
+        assertThat(productService.findById(testProduct.getId()).orElseThrow().getLikes()).isEqualTo(userCount);
+        assertThat(likeFacade.getProductLikeCount(testProduct.getId())).isEqualTo(userCount);
+    }
+
+    @DisplayName("한 주기 안의 좋아요와 취소는 상쇄되어 반영된다")
+    @Test
+    void 한주기안의_좋아요와_취소는_상쇄되어_반영된다() {
+        // given
+        Long first = userService.signUp(UserCommand.Create.of("first", "MALE", "2000-01-01", "first@loopers.com")).getId();
+        Long second = userService.signUp(UserCommand.Create.of("second", "FEMALE", "2000-01-01", "second@loopers.com")).getId();
+
+        // when
+        likeFacade.like(new LikeCommand.Create(first, testProduct.getId()));
+        likeFacade.like(new LikeCommand.Create(second, testProduct.getId()));
+        likeFacade.unlike(first, testProduct.getId());
+        productLikeCountFlusher.flush();
+
+        // then
+        assertThat(productService.findById(testProduct.getId()).orElseThrow().getLikes()).isEqualTo(1L);
+    }
+
+    @DisplayName("커밋 뒤의 리스너가 실패해도 이미 반영된 변화량은 되돌리지 않는다")
+    @Test
+    void 커밋뒤_리스너가_실패해도_반영된_변화량은_되돌리지_않는다() {
+        // given
+        Long userId = userService.signUp(UserCommand.Create.of("user", "MALE", "2000-01-01", "user@loopers.com")).getId();
+        likeFacade.like(new LikeCommand.Create(userId, testProduct.getId()));
+        failingLikesListener.failNext.set(true);
+
+        // when
+        productLikeCountFlusher.flush();
+        productLikeCountFlusher.flush();
+
+        // then
+        assertThat(productService.findById(testProduct.getId()).orElseThrow().getLikes()).isEqualTo(1L);
+    }
+
+    @TestConfiguration
+    static class FailingLikesListenerConfig {
+
+        @Bean
+        FailingLikesListener failingLikesListener() {
+            return new FailingLikesListener();
+        }
+    }
+
+    static class FailingLikesListener {
+
+        private final AtomicBoolean failNext = new AtomicBoolean();
+
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+        public void handle(ProductEvent.ProductLikesChanged event) {
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("커밋 후 처리 실패");
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.loopers.application.product;
+
+import com.loopers.support.cache.BinaryCacheValueSerializer;
+import com.loopers.support.cache.CacheEnvelope;
+import com.loopers.support.cache.CacheValueCodec;
+import com.loopers.support.cache.CacheValueReader;
+import com.loopers.support.cache.CacheValueWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryCacheValueSerializerTest {
+
+    private final BinaryCacheValueSerializer serializer = new BinaryCacheValueSerializer(
+            List.of(new ProductInfoCacheCodec(), new ProductPageCacheCodec()),
+            new GenericJackson2JsonRedisSerializer(),
+            true,
+            1024
+    );
+
+    private final BinaryCacheValueSerializer jsonSerializer = new BinaryCacheValueSerializer(
+            List.of(new ProductInfoCacheCodec(), new ProductPageCacheCodec()),
+            new GenericJackson2JsonRedisSerializer(),
+            false,
+            1024
+    );
+
+    @DisplayName("압축된 값은 그대로 복원된다")
+    @Test
+    void 압축된_값은_그대로_복원된다() {
+        // given
+        String value = "상품".repeat(2000);
+
+        // when
+        byte[] bytes = serializer.serialize(value);
+
+        // then
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @DisplayName("JSON 으로 쓴 상품 목록 페이지도 같은 Page 로 복원된다")
+    @Test
+    void JSON_으로_쓴_상품_목록_페이지도_같은_Page_로_복원된다() {
+        // given
+        Page<ProductInfo> page = new PageImpl<>(
+                List.of(new ProductInfo(1L, "상품", 10L, "브랜드", 1000L, 5L, 3L, 1L)),
+                PageRequest.of(1, 2),
+                7
+        );
+
+        // when
+        Object restored = jsonSerializer.deserialize(jsonSerializer.serialize(page));
+        Object restoredEnvelope = jsonSerializer.deserialize(
+                jsonSerializer.serialize(new CacheEnvelope(page, 10L, CacheEnvelope.NO_EXPIRY))
+        );
+
+        // then
+        assertThat(restored).isEqualTo(page);
+        assertThat(restoredEnvelope).isEqualTo(new CacheEnvelope(page, 10L, CacheEnvelope.NO_EXPIRY));
+    }
+
+    @DisplayName("잘린 압축 값은 멈추지 않고 SerializationException 을 던진다")
+    @Test
+    void 잘린_압축값은_SerializationException_을_던진다() {
+        // given
+        byte[] bytes = serializer.serialize("상품".repeat(2000));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        // when & then
+        assertThatThrownBy(() -> serializer.deserialize(truncated))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @DisplayName("코덱 id 가 1~127 범위를 벗어나면 생성할 수 없다")
+    @Test
+    void 코덱_id_가_범위를_벗어나면_생성할_수_없다() {
+        // given
+        CacheValueCodec outOfRange = codec((byte) 128);
+
+        // when & then
+        assertThatThrownBy(() -> new BinaryCacheValueSerializer(
+                List.of(outOfRange), new GenericJackson2JsonRedisSerializer(), true, 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("등록되지 않은 코덱 id 로 저장된 값은 SerializationException 을 던진다")
+    @Test
+    void 등록되지_않은_코덱_id_는_SerializationException_을_던진다() {
+        // given: [버전][플래그][RAW_VALUE][코덱 id 200]
+        byte[] bytes = {0x01, 0, 0, (byte) 200};
+
+        // when & then
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private CacheValueCodec codec(byte id) {
+        return new CacheValueCodec() {
+            @Override
+            public byte id() {
+                return id;
+            }
+
+            @Override
+            public boolean supports(Object value) {
+                return false;
+            }
+
+            @Override
+            public void write(Object value, CacheValueWriter writer) {
+            }
+
+            @Override
+            public Object read(CacheValueReader reader) {
+                return null;
+            }
+        };
+    }
+}
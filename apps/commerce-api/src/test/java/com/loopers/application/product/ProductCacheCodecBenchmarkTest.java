@@ -0,0 +1,140 @@
+package com.loopers.application.product;
+
+import com.loopers.support.cache.BinaryCacheValueSerializer;
+import com.loopers.support.cache.CacheEnvelope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 값 직렬화 방식별 저장 크기와 인코딩/디코딩 시간을 비교한다.
+ * 크기와 복원 결과는 기본 테스트에서 검증하고, 시간 측정은 benchmark 태그로 분리하여 ./gradlew benchmark 로만 실행한다.
+ * 시간은 같은 스레드에서 충분히 반복하여 JIT 워밍업을 마친 뒤 1회당 평균으로 잰다.
+ */
+@DisplayName("캐시 값 코덱 비교")
+class ProductCacheCodecBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCacheCodecBenchmarkTest.class);
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 50_000;
+
+    private final RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer();
+    private final RedisSerializer<Object> binary = new BinaryCacheValueSerializer(
+            List.of(new ProductInfoCacheCodec(), new ProductPageCacheCodec()),
+            new GenericJackson2JsonRedisSerializer(),
+            true,
+            1024
+    );
+
+    @DisplayName("상품 상세 값은 바이너리 코덱이 JSON 보다 작고 그대로 복원된다")
+    @Test
+    void 상품상세값은_바이너리코덱이_JSON보다_작고_그대로_복원된다() {
+        // given
+        CacheEnvelope envelope = envelope(productInfo(1L));
+
+        // when
+        byte[] jsonBytes = json.serialize(envelope);
+        byte[] binaryBytes = binary.serialize(envelope);
+
+        // then
+        assertThat(binary.deserialize(binaryBytes)).isEqualTo(envelope);
+        assertThat(binaryBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    @DisplayName("상품 목록 페이지는 바이너리 코덱으로 압축되어 JSON 보다 작고 그대로 복원된다")
+    @Test
+    void 상품목록페이지는_바이너리코덱으로_압축되어_JSON보다_작고_그대로_복원된다() {
+        // given
+        List<ProductInfo> content = page().getContent();
+        CacheEnvelope envelope = envelope(page());
+
+        // when
+        byte[] jsonBytes = json.serialize(envelope);
+        byte[] binaryBytes = binary.serialize(envelope);
+
+        // then
+        CacheEnvelope restored = (CacheEnvelope) binary.deserialize(binaryBytes);
+        Page<?> page = (Page<?>) restored.value();
+        assertThat(page.getContent()).containsExactlyElementsOf(content);
+        assertThat(page.getNumber()).isEqualTo(3);
+        assertThat(page.getTotalElements()).isEqualTo(10_000L);
+        assertThat(binaryBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    @DisplayName("바이너리 코덱은 기존 JSON 값도 읽는다")
+    @Test
+    void 바이너리코덱은_기존_JSON값도_읽는다() {
+        // given
+        CacheEnvelope envelope = envelope(productInfo(1L));
+        byte[] legacy = json.serialize(envelope);
+
+        // when
+        Object restored = binary.deserialize(legacy);
+
+        // then
+        assertThat(restored).isEqualTo(envelope);
+    }
+
+    @DisplayName("코덱별 인코딩/디코딩 시간을 잰다")
+    @Tag("benchmark")
+    @Test
+    void 코덱별_인코딩_디코딩_시간을_잰다() {
+        measure("detail", envelope(productInfo(1L)));
+        // PageImpl 은 생성자 정보가 없어 JSON 으로는 복원되지 않으므로 디코딩은 바이너리만 잰다.
+        measure("page", envelope(page()));
+    }
+
+    private void measure(String name, CacheEnvelope envelope) {
+        byte[] jsonBytes = json.serialize(envelope);
+        byte[] binaryBytes = binary.serialize(envelope);
+        boolean jsonReadable = !(envelope.value() instanceof Page<?>);
+
+        long jsonEncode = nanosPerOp(() -> json.serialize(envelope));
+        long binaryEncode = nanosPerOp(() -> binary.serialize(envelope));
+        String jsonDecode = jsonReadable ? nanosPerOp(() -> json.deserialize(jsonBytes)) + " ns" : "n/a";
+        long binaryDecode = nanosPerOp(() -> binary.deserialize(binaryBytes));
+        log.info("[cache codec:{}] bytes json={} binary={} | encode json={} ns binary={} ns | decode json={} binary={} ns",
+                name, jsonBytes.length, binaryBytes.length, jsonEncode, binaryEncode, jsonDecode, binaryDecode);
+    }
+
+    private Page<ProductInfo> page() {
+        List<ProductInfo> content = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            content.add(productInfo(id));
+        }
+        return new PageImpl<>(content, PageRequest.of(3, 50), 10_000L);
+    }
+
+    private ProductInfo productInfo(Long id) {
+        return new ProductInfo(id, "나이키 에어 포스 1 '07 화이트 " + id, 3L, "나이키", 139000L, 25L, 1200L + id, 1760000000000L + id);
+    }
+
+    private CacheEnvelope envelope(Object value) {
+        return new CacheEnvelope(value, 12L, 1760000000000L);
+    }
+
+    private long nanosPerOp(Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.get();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            operation.get();
+        }
+        return (System.nanoTime() - startedAt) / MEASURE_ITERATIONS;
+    }
+}
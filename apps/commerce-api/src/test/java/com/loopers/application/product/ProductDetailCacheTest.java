@@ -2,6 +2,8 @@ package com.loopers.application.product;
 
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductService;
+import com.loopers.support.cache.CacheLoadLease;
 import com.loopers.support.error.CoreException;
 import com.loopers.utils.DatabaseCleanUp;
 import org.junit.jupiter.api.AfterEach;
@@ -11,9 +13,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 public class ProductDetailCacheTest {
@@ -24,9 +35,15 @@ public class ProductDetailCacheTest {
     @Autowired
     private BrandService brandService;
 
+    @MockitoSpyBean
+    private ProductService productService;
+
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private CacheLoadLease cacheLoadLease;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -186,4 +203,46 @@ public class ProductDetailCacheTest {
         assertThat(cachedValue1).isEqualTo(result1);
         assertThat(cachedValue2).isEqualTo(result2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("캐시 미스 상태에서 동시에 조회해도 로더는 한 번만 실행된다")
+    void 캐시미스_상태에서_동시에_조회해도_로더는_한번만_실행된다() {
+        // given
+        cacheManager.getCache("product").clear();
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<CompletableFuture<ProductInfo>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> productFacade.findProductById(productId), executor));
+        }
+        List<ProductInfo> results = futures.stream().map(CompletableFuture::join).toList();
+        executor.shutdown();
+
+        // then
+        assertThat(results).allSatisfy(result -> assertThat(result.id()).isEqualTo(productId));
+        verify(productService, times(1)).findById(productId);
+    }
+
+    @Test
+    @DisplayName("로딩 중인 다른 노드가 값을 쓰지 않고 임대를 풀면 대기 시간을 모두 기다리지 않고 로딩한다")
+    void 다른노드가_값없이_임대를_풀면_대기시간을_모두_기다리지_않는다() throws Exception {
+        // given: 다른 노드가 임대를 잡고 로딩하다 실패한다.
+        cacheManager.getCache("product").clear();
+        String token = cacheLoadLease.tryAcquire("product", String.valueOf(productId));
+        long startedAt = System.nanoTime();
+        CompletableFuture<ProductInfo> future = CompletableFuture.supplyAsync(() -> productFacade.findProductById(productId));
+        Thread.sleep(200);
+        cacheLoadLease.release("product", String.valueOf(productId), token);
+
+        // when
+        ProductInfo result = future.join();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(token).isNotNull();
+        assertThat(result.id()).isEqualTo(productId);
+        assertThat(elapsedMillis).isLessThan(cacheLoadLease.getWaitTimeout().toMillis());
+    }
+}
@@ -3,18 +3,25 @@ package com.loopers.application.product;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ProductCommand;
 import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductRankingService;
 import com.loopers.support.error.CoreException;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.stream.LongStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -27,9 +34,21 @@ public class ProductFacadeIntegrationTest {
     @Autowired
     private BrandService brandService;
 
+    @Autowired
+    private ProductRankingService productRankingService;
+
+    @Autowired
+    private ProductRankingInitializer productRankingInitializer;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     private Long brandId;
 
     @BeforeEach
@@ -41,6 +60,7 @@ public class ProductFacadeIntegrationTest {
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @DisplayName("상품 목록 조회시 브랜드 정보가 포함된 목록이 반환된다")
@@ -104,6 +124,169 @@ public class ProductFacadeIntegrationTest {
         }).isInstanceOf(CoreException.class);
     }
     
+    @DisplayName("커서로 다음 페이지를 조회하면 이전 페이지와 겹치지 않는 상품이 가격순으로 반환된다")
+    @Test
+    void 커서로_다음페이지_조회시_겹치지않는_상품이_반환된다() {
+        // given
+        productFacade.createProduct(new ProductCommand.Create("상품1", brandId, 1000L, 10L, 0L));
+        productFacade.createProduct(new ProductCommand.Create("상품2", brandId, 2000L, 10L, 0L));
+        productFacade.createProduct(new ProductCommand.Create("상품3", brandId, 2000L, 10L, 0L));
+        productFacade.createProduct(new ProductCommand.Create("상품4", brandId, 3000L, 10L, 0L));
+        productFacade.createProduct(new ProductCommand.Create("상품5", brandId, 4000L, 10L, 0L));
+
+        ProductCriteria criteria = ProductCriteria.orderByPrice(true);
+
+        // when
+        ProductCursorInfo firstPage = productFacade.findProductsByCursor(criteria, null, 2);
+        ProductCursorInfo secondPage = productFacade.findProductsByCursor(criteria, firstPage.nextCursor(), 2);
+        ProductCursorInfo lastPage = productFacade.findProductsByCursor(criteria, secondPage.nextCursor(), 2);
+
+        // then
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.products()).extracting(ProductInfo::price).containsExactly(1000L, 2000L);
+        assertThat(secondPage.products()).extracting(ProductInfo::price).containsExactly(2000L, 3000L);
+        assertThat(secondPage.products()).extracting(ProductInfo::id)
+                .doesNotContainAnyElementsOf(firstPage.products().stream().map(ProductInfo::id).toList());
+        assertThat(lastPage.products()).extracting(ProductInfo::price).containsExactly(4000L);
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @DisplayName("커서 조회의 페이지 크기가 1 미만이거나 최대 크기를 넘으면 실패한다")
+    @Test
+    void 커서조회_페이지크기가_범위를_벗어나면_실패한다() {
+        // given
+        ProductCriteria criteria = ProductCriteria.orderByCreatedAt(false);
+
+        // when & then
+        assertThatThrownBy(() -> {
+            productFacade.findProductsByCursor(criteria, null, 0);
+        }).isInstanceOf(CoreException.class)
+          .hasMessageContaining("페이지 크기는");
+        assertThatThrownBy(() -> {
+            productFacade.findProductsByCursor(criteria, null, ProductFacade.MAX_CURSOR_SIZE + 1);
+        }).isInstanceOf(CoreException.class)
+          .hasMessageContaining("페이지 크기는");
+    }
+
+    @DisplayName("좋아요 순 조회시 랭킹 순서대로 브랜드별 상품이 반환된다")
+    @Test
+    void 좋아요순_조회시_랭킹순서대로_브랜드별_상품이_반환된다() {
+        // given
+        Long adidasId = brandService.create("아디다스").getId();
+        productFacade.createProduct(new ProductCommand.Create("나이키 양말", brandId, 5000L, 10L, 5L));
+        productFacade.createProduct(new ProductCommand.Create("나이키 신발", brandId, 90000L, 10L, 20L));
+        productFacade.createProduct(new ProductCommand.Create("나이키 모자", brandId, 30000L, 10L, 10L));
+        productFacade.createProduct(new ProductCommand.Create("아디다스 신발", adidasId, 80000L, 10L, 100L));
+        productRankingService.markReady();
+
+        // when
+        Page<ProductInfo> nikeProducts = productFacade.findProductsOrderByLikes(brandId, PageRequest.of(0, 2));
+        Page<ProductInfo> allProducts = productFacade.findProductsOrderByLikes(null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(nikeProducts.getTotalElements()).isEqualTo(3);
+        assertThat(nikeProducts.getContent())
+                .extracting(ProductInfo::name)
+                .containsExactly("나이키 신발", "나이키 모자");
+        assertThat(nikeProducts.getContent().get(0).brandName()).isEqualTo("나이키");
+
+        assertThat(allProducts.getContent())
+                .extracting(ProductInfo::name)
+                .containsExactly("아디다스 신발", "나이키 신발", "나이키 모자", "나이키 양말");
+    }
+
+    @DisplayName("랭킹 채우기가 끝나지 않았으면 일부 상품만 랭킹에 있어도 DB 정렬로 모든 상품을 조회한다")
+    @Test
+    void 랭킹채우기가_끝나지_않았으면_DB정렬로_조회한다() {
+        // given
+        productFacade.createProduct(new ProductCommand.Create("나이키 양말", brandId, 5000L, 10L, 5L));
+        productFacade.createProduct(new ProductCommand.Create("나이키 신발", brandId, 90000L, 10L, 20L));
+        Long hatId = productFacade.createProduct(new ProductCommand.Create("나이키 모자", brandId, 30000L, 10L, 10L)).id();
+        redisCleanUp.truncateAll();
+        productRankingService.updateLikes(hatId, brandId, 10L, 0L);
+
+        // when
+        Page<ProductInfo> products = productFacade.findProductsOrderByLikes(null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(productRankingService.count(null)).isEqualTo(1);
+        assertThat(products.getTotalElements()).isEqualTo(3);
+        assertThat(products.getContent())
+                .extracting(ProductInfo::name)
+                .containsExactly("나이키 신발", "나이키 모자", "나이키 양말");
+    }
+
+    @DisplayName("랭킹 초기화는 일부만 채워진 랭킹도 나머지 상품을 채운 뒤 완료를 표시한다")
+    @Test
+    void 랭킹초기화는_일부만_채워진_랭킹도_나머지를_채운다() {
+        // given
+        productFacade.createProduct(new ProductCommand.Create("나이키 양말", brandId, 5000L, 10L, 5L));
+        productFacade.createProduct(new ProductCommand.Create("나이키 신발", brandId, 90000L, 10L, 20L));
+        Long hatId = productFacade.createProduct(new ProductCommand.Create("나이키 모자", brandId, 30000L, 10L, 10L)).id();
+        redisCleanUp.truncateAll();
+        productRankingService.updateLikes(hatId, brandId, 10L, 0L);
+
+        // when
+        productRankingInitializer.initialize();
+
+        // then
+        assertThat(productRankingService.isReady()).isTrue();
+        assertThat(productRankingService.count(null)).isEqualTo(3);
+        assertThat(productFacade.findProductsOrderByLikes(brandId, PageRequest.of(0, 10)).getContent())
+                .extracting(ProductInfo::name)
+                .containsExactly("나이키 신발", "나이키 모자", "나이키 양말");
+    }
+
+    @DisplayName("좋아요 버전이 이전인 값은 랭킹에 반영되지 않는다")
+    @Test
+    void 좋아요버전이_이전인_값은_랭킹에_반영되지_않는다() {
+        // given
+        Long socksId = productFacade.createProduct(new ProductCommand.Create("나이키 양말", brandId, 5000L, 10L, 0L)).id();
+        Long shoesId = productFacade.createProduct(new ProductCommand.Create("나이키 신발", brandId, 90000L, 10L, 0L)).id();
+        productRankingService.markReady();
+
+        // when: 양말의 버전 2 이벤트가 먼저 반영되고 버전 1 이벤트가 늦게 도착한다.
+        productRankingService.updateLikes(socksId, brandId, 5L, 2L);
+        productRankingService.updateLikes(socksId, brandId, 1L, 1L);
+        productRankingService.updateLikes(shoesId, brandId, 3L, 1L);
+
+        // then
+        assertThat(productRankingService.findIdsOrderByLikes(brandId, 0, 10)).containsExactly(socksId, shoesId);
+    }
+
+    @DisplayName("여러 상품을 한 번에 조회하면 요청한 순서대로 반환되고 이후 조회는 캐시에서 채워진다")
+    @Test
+    void 여러상품을_한번에_조회하면_요청순서대로_반환되고_캐시에서_채워진다() {
+        // given
+        Long first = productFacade.createProduct(new ProductCommand.Create("나이키 양말", brandId, 5000L, 10L, 0L)).id();
+        Long second = productFacade.createProduct(new ProductCommand.Create("나이키 신발", brandId, 90000L, 10L, 0L)).id();
+        Long cached = productFacade.findProductById(first).id();
+
+        // when
+        List<ProductInfo> products = productFacade.findProductsByIds(List.of(second, 999L, cached, second));
+        Cache.ValueWrapper loaded = cacheManager.getCache("product").get(second);
+
+        // then
+        assertThat(products)
+                .extracting(ProductInfo::name)
+                .containsExactly("나이키 신발", "나이키 양말");
+        assertThat(products.get(0).brandName()).isEqualTo("나이키");
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.get()).isEqualTo(products.get(0));
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 상품 수를 넘으면 실패한다")
+    @Test
+    void 한번에_조회할수있는_상품수를_넘으면_실패한다() {
+        // given
+        List<Long> productIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> productFacade.findProductsByIds(productIds))
+                .isInstanceOf(CoreException.class);
+    }
+
     @DisplayName("존재하지 않는 상품을 조회하면 실패한다")
     @Test
     void 존재하지않는_상품_조회시_실패한다() {
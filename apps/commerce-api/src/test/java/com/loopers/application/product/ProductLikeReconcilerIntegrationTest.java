@@ -0,0 +1,131 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.like.LikeCommand;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.lock.DistributedLock;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.UserCommand;
+import com.loopers.domain.user.UserService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 범위로 나누어 점검하도록 범위 크기를 작게 두고, 재확인 대기 없이 상품 좋아요 수 보정을 확인한다.
+ */
+@SpringBootTest(properties = {
+        "product.like-reconciliation.chunk-size=2",
+        "product.like-reconciliation.settle-delay-ms=0"
+})
+class ProductLikeReconcilerIntegrationTest {
+
+    @Autowired
+    private ProductLikeReconciler productLikeReconciler;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DistributedLock distributedLock;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("어긋난 상품 좋아요 수만 실제 좋아요 건수로 보정한다")
+    @Test
+    void 어긋난_상품_좋아요수만_실제_건수로_보정한다() throws Exception {
+        // given
+        Long brandId = brandService.create("나이키").getId();
+        List<ProductEntity> products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            products.add(productService.createProduct(ProductCommand.Create.of("상품" + i, brandId, 1000L, 10L, 0L)));
+        }
+        Long first = userService.signUp(UserCommand.Create.of("first", "MALE", "2000-01-01", "first@loopers.com")).getId();
+        Long second = userService.signUp(UserCommand.Create.of("second", "FEMALE", "2000-01-01", "second@loopers.com")).getId();
+
+        // 좋아요 행만 추가하여 상품 좋아요 수가 실제보다 적게 남도록 한다.
+        likeService.addLike(new LikeCommand.Create(first, products.get(0).getId()));
+        likeService.addLike(new LikeCommand.Create(second, products.get(0).getId()));
+        likeService.addLike(new LikeCommand.Create(first, products.get(3).getId()));
+        // 좋아요 없이 상품 좋아요 수만 늘려 실제보다 많게 만든다.
+        ProductEntity inflated = products.get(4);
+        inflated.incrementLikes();
+        productService.save(inflated);
+
+        // when
+        ProductLikeReconciler.Result result = productLikeReconciler.reconcile().orElseThrow();
+
+        // then
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.failedChunks()).isZero();
+        assertThat(result.drifted()).isEqualTo(3);
+        assertThat(result.corrected()).isEqualTo(3);
+        assertThat(products).allSatisfy(product -> assertThat(productService.findById(product.getId()).orElseThrow().getLikes())
+                .isEqualTo(likeService.countByProductId(product.getId())));
+    }
+
+    @DisplayName("좋아요 수가 모두 맞으면 아무것도 보정하지 않는다")
+    @Test
+    void 좋아요수가_모두_맞으면_보정하지_않는다() throws Exception {
+        // given
+        Long brandId = brandService.create("나이키").getId();
+        productService.createProduct(ProductCommand.Create.of("상품", brandId, 1000L, 10L, 0L));
+
+        // when
+        ProductLikeReconciler.Result result = productLikeReconciler.reconcile().orElseThrow();
+
+        // then
+        assertThat(result.drifted()).isZero();
+        assertThat(result.corrected()).isZero();
+    }
+
+    @DisplayName("다른 노드가 점검 중이면 점검하지 않는다")
+    @Test
+    void 다른_노드가_점검중이면_점검하지_않는다() throws Exception {
+        // given
+        Long brandId = brandService.create("나이키").getId();
+        ProductEntity inflated = productService.createProduct(ProductCommand.Create.of("상품", brandId, 1000L, 10L, 0L));
+        inflated.incrementLikes();
+        productService.save(inflated);
+        String token = distributedLock.tryLock("product-like-reconciliation", Duration.ofMinutes(1)).orElseThrow();
+
+        // when
+        var result = productLikeReconciler.reconcile();
+        distributedLock.unlock("product-like-reconciliation", token);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(productService.findById(inflated.getId()).orElseThrow().getLikes()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,127 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 한 페이지를 만드는 데 드는 힙 할당량을 엔티티 조회 방식과 DTO 조회 방식으로 비교한다.
+ * 같은 스레드에서 반복 실행한 뒤 ThreadMXBean 의 스레드별 할당 바이트로 측정한다.
+ */
+@SpringBootTest
+public class ProductListAllocationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductListAllocationBenchmarkTest.class);
+
+    private static final int PRODUCT_COUNT = 500;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURE_ITERATIONS = 200;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private final ProductCriteria criteria = ProductCriteria.orderByPrice(false);
+    private final Pageable pageable = PageRequest.of(0, 50);
+
+    @BeforeEach
+    void setUp() {
+        List<Long> brandIds = List.of(
+                brandService.create("나이키").getId(),
+                brandService.create("아디다스").getId(),
+                brandService.create("뉴발란스").getId()
+        );
+
+        List<ProductEntity> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(new ProductEntity("상품" + i, brandIds.get(i % brandIds.size()), 1000L + i, 10L, (long) i));
+        }
+        productRepository.save(products);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("DTO 조회로 만든 목록 페이지는 엔티티 조회보다 적게 할당한다")
+    @Test
+    void DTO조회로_만든_목록페이지는_엔티티조회보다_적게_할당한다() {
+        // given
+        Supplier<Page<ProductInfo>> entityPath = () -> transactionTemplate.execute(status -> {
+            Page<ProductEntity> entities = productService.findProducts(criteria, pageable);
+            Map<Long, String> brandNames = brandService.findNames(entities.getContent().stream()
+                    .map(ProductEntity::getBrandId)
+                    .collect(Collectors.toSet()));
+            return entities.map(entity -> ProductInfo.from(entity, brandNames.get(entity.getBrandId())));
+        });
+        Supplier<Page<ProductInfo>> projectionPath = () -> transactionTemplate.execute(status ->
+                productService.findProductSummaries(criteria, pageable)
+                        .map(summary -> ProductInfo.from(summary, summary.brandName()))
+        );
+
+        // when
+        long entityBytes = allocatedBytesPerPage(entityPath);
+        long projectionBytes = allocatedBytesPerPage(projectionPath);
+        log.info("[product list allocation] entity={} B/page, projection={} B/page ({}%)",
+                entityBytes, projectionBytes, String.format("%.1f", projectionBytes * 100.0 / entityBytes));
+
+        // then
+        assertThat(projectionPath.get().getContent())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(entityPath.get().getContent());
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private long allocatedBytesPerPage(Supplier<Page<ProductInfo>> path) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            path.get();
+        }
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            path.get();
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        return (after - before) / MEASURE_ITERATIONS;
+    }
+}
@@ -0,0 +1,204 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductCriteria;
+import com.loopers.domain.product.ProductEvent;
+import com.loopers.domain.product.ProductService;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.cache.TwoLevelCacheManager;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ProductListCacheTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductListCache productListCache;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Long nikeId;
+    private Long adidasId;
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void setUp() {
+        nikeId = brandService.create("나이키").getId();
+        adidasId = brandService.create("아디다스").getId();
+
+        productFacade.createProduct(new ProductCommand.Create("나이키 티셔츠", nikeId, 15000L, 10L, 0L));
+        productFacade.createProduct(new ProductCommand.Create("아디다스 티셔츠", adidasId, 20000L, 10L, 0L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCache("productList").clear();
+        cacheManager.getCache("productCount").clear();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("상품이 생성되면 해당 브랜드와 전체 목록 캐시만 무효화된다")
+    void 상품이_생성되면_해당브랜드와_전체목록_캐시만_무효화된다() {
+        // given
+        ProductCriteria nikeCriteria = withBrand(ProductCriteria.orderByCreatedAt(false), nikeId);
+        ProductCriteria adidasCriteria = withBrand(ProductCriteria.orderByCreatedAt(false), adidasId);
+        ProductCriteria allCriteria = ProductCriteria.orderByCreatedAt(false);
+
+        productFacade.findProducts(nikeCriteria, pageable);
+        productFacade.findProducts(adidasCriteria, pageable);
+        productFacade.findProducts(allCriteria, pageable);
+
+        // when
+        productFacade.createProduct(new ProductCommand.Create("나이키 후드", nikeId, 50000L, 10L, 0L));
+
+        // then
+        assertThat(cacheManager.getCache("productList").get(productListCache.key(nikeCriteria, pageable))).isNull();
+        assertThat(cacheManager.getCache("productList").get(productListCache.key(allCriteria, pageable))).isNull();
+        assertThat(cacheManager.getCache("productList").get(productListCache.key(adidasCriteria, pageable))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("상품 생성이 커밋되면 목록 전체 건수 캐시도 무효화된다")
+    void 상품생성이_커밋되면_목록_건수캐시도_무효화된다() {
+        // given
+        // 건수를 조회하도록(COUNT 생략이 일어나지 않도록) 페이지 크기를 상품 수보다 작게 둔다.
+        ProductCriteria allCriteria = ProductCriteria.orderByCreatedAt(false);
+        Pageable firstItem = PageRequest.of(0, 1);
+        long totalBefore = productFacade.findProducts(allCriteria, firstItem).getTotalElements();
+
+        // when
+        productFacade.createProduct(new ProductCommand.Create("나이키 후드", nikeId, 50000L, 10L, 0L));
+
+        // then
+        assertThat(totalBefore).isEqualTo(2L);
+        assertThat(productFacade.findProducts(allCriteria, firstItem).getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 바뀌면 좋아요순뿐 아니라 최신순과 가격순 목록 캐시도 무효화된다")
+    void 좋아요수가_바뀌면_모든_정렬기준의_목록_캐시가_무효화된다() {
+        // given
+        ProductCriteria latestCriteria = ProductCriteria.orderByCreatedAt(false);
+        ProductCriteria priceCriteria = ProductCriteria.orderByPrice(true);
+        Long productId = productFacade.findProducts(latestCriteria, pageable).getContent().get(0).id();
+        productFacade.findProducts(priceCriteria, pageable);
+
+        // when
+        productService.applyLikeDeltas(Map.of(productId, 1L));
+
+        // then
+        assertThat(cacheManager.getCache("productList").get(productListCache.key(latestCriteria, pageable))).isNull();
+        assertThat(cacheManager.getCache("productList").get(productListCache.key(priceCriteria, pageable))).isNull();
+        assertThat(productFacade.findProducts(latestCriteria, pageable).getContent())
+                .filteredOn(product -> product.id().equals(productId))
+                .extracting(ProductInfo::likes)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("무효화 전에 만든 키로 늦게 저장된 목록은 무효화 뒤에 조회되지 않는다")
+    void 무효화전에_만든_키로_늦게_저장된_목록은_조회되지_않는다() {
+        // given
+        ProductCriteria criteria = withBrand(ProductCriteria.orderByCreatedAt(false), nikeId);
+        String keyBeforeInvalidation = productListCache.key(criteria, pageable);
+
+        // when: 이전 값을 읽은 요청이 무효화가 끝난 뒤에야 캐시에 저장한다.
+        productListCache.invalidate(nikeId, Set.of(ProductEvent.SortKey.LATEST));
+        cacheManager.getCache("productList").put(keyBeforeInvalidation, "stale");
+
+        // then
+        assertThat(productListCache.key(criteria, pageable)).isNotEqualTo(keyBeforeInvalidation);
+        assertThat(cacheManager.getCache("productList").get(productListCache.key(criteria, pageable))).isNull();
+    }
+
+    @Test
+    @DisplayName("정렬 방향만 다른 목록은 서로 다른 캐시 엔트리로 조회된다")
+    void 정렬방향만_다른_목록은_서로다른_캐시엔트리로_조회된다() {
+        // given
+        ProductCriteria ascending = ProductCriteria.orderByPrice(true);
+        ProductCriteria descending = ProductCriteria.orderByPrice(false);
+        productFacade.findProducts(ascending, pageable);
+
+        // when
+        Long cheapestFirst = productFacade.findProducts(ascending, pageable).getContent().get(0).id();
+        Long mostExpensiveFirst = productFacade.findProducts(descending, pageable).getContent().get(0).id();
+
+        // then
+        assertThat(productListCache.key(ascending, pageable)).isNotEqualTo(productListCache.key(descending, pageable));
+        assertThat(productFacade.findProducts(ascending, pageable).getContent().get(0).price()).isEqualTo(15000L);
+        assertThat(productFacade.findProducts(descending, pageable).getContent().get(0).price()).isEqualTo(20000L);
+        assertThat(cheapestFirst).isNotEqualTo(mostExpensiveFirst);
+    }
+
+    @Test
+    @DisplayName("세대 번호는 로컬에 캐시되고, 다른 노드의 무효화 메시지를 받으면 다시 읽는다")
+    void 세대번호는_로컬에_캐시되고_무효화메시지를_받으면_다시읽는다() {
+        // given
+        ProductCriteria criteria = withBrand(ProductCriteria.orderByCreatedAt(false), nikeId);
+        String cachedKey = productListCache.key(criteria, pageable);
+        String tag = ProductListCache.tag(criteria);
+
+        // when: 다른 노드가 세대 번호를 올리고 무효화 메시지를 발행한다.
+        redisTemplate.opsForValue().increment("productList:gen:" + tag);
+        String keyBeforeMessage = productListCache.key(criteria, pageable);
+        ((TwoLevelCacheManager) cacheManager).evictLocal("productList:gen", tag);
+
+        // then
+        assertThat(keyBeforeMessage).isEqualTo(cachedKey);
+        assertThat(productListCache.key(criteria, pageable)).isNotEqualTo(cachedKey);
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 같고 브랜드 필터만 다르면 다른 태그에 속한다")
+    void 정렬기준이_같고_브랜드필터만_다르면_다른_태그에_속한다() {
+        // given
+        ProductCriteria nikeCriteria = withBrand(ProductCriteria.orderByLikeCount(), nikeId);
+        ProductCriteria allCriteria = ProductCriteria.orderByLikeCount();
+
+        // when & then
+        assertThat(ProductListCache.tag(nikeCriteria)).isEqualTo("brand:" + nikeId + ":likes");
+        assertThat(ProductListCache.tag(allCriteria)).isEqualTo("brand:all:likes");
+    }
+
+    private ProductCriteria withBrand(ProductCriteria criteria, Long brandId) {
+        List<ProductCriteria.Criterion> criterionList = new ArrayList<>(criteria.criteria());
+        criterionList.add(new ProductCriteria.BrandIdEquals(brandId));
+        return new ProductCriteria(criterionList);
+    }
+}
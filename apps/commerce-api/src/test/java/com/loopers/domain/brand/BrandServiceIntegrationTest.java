@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,6 +59,22 @@ public class BrandServiceIntegrationTest {
             // then
             assertThat(result).isEmpty();
         }
+
+        @DisplayName("여러 브랜드 ID로 브랜드명을 한 번에 조회할 수 있다")
+        @Test
+        void 여러_브랜드ID로_브랜드명_일괄조회() {
+            // given
+            BrandEntity nike = brandService.create("나이키");
+            BrandEntity apc = brandService.create("아페쎄");
+
+            // when
+            Map<Long, String> result = brandService.findNames(List.of(nike.getId(), apc.getId(), 999L));
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(nike.getId())).isEqualTo("나이키");
+            assertThat(result.get(apc.getId())).isEqualTo("아페쎄");
+        }
     }
 
     @DisplayName("브랜드 생성")
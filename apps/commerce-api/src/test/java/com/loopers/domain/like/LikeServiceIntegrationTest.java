@@ -145,4 +145,37 @@ class LikeServiceIntegrationTest {
             likeService.removeLike(userId, productId);
         }).isInstanceOf(CoreException.class);
     }
+
+    @Test
+    @DisplayName("좋아요 추가는 처음 한 번만 행을 추가하고, 이후에는 기존 좋아요 ID 를 돌려준다")
+    void 좋아요_추가는_처음_한번만_행을_추가한다() {
+        // given
+        LikeCommand.Create command = new LikeCommand.Create(testUser.getId(), testProduct.getId());
+
+        // when
+        LikeInsertResult first = likeService.addLike(command);
+        LikeInsertResult second = likeService.addLike(command);
+
+        // then
+        assertThat(first.inserted()).isTrue();
+        assertThat(second.inserted()).isFalse();
+        assertThat(second.likeId()).isEqualTo(first.likeId());
+        assertThat(likeService.countByProductId(testProduct.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 실제로 삭제된 행이 있을 때만 true 를 반환한다")
+    void 좋아요_취소는_삭제된_행이_있을때만_true를_반환한다() {
+        // given
+        likeService.addLike(new LikeCommand.Create(testUser.getId(), testProduct.getId()));
+
+        // when
+        boolean first = likeService.cancelLike(testUser.getId(), testProduct.getId());
+        boolean second = likeService.cancelLike(testUser.getId(), testProduct.getId());
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(likeService.existsByUserIdAndProductId(testUser.getId(), testProduct.getId())).isFalse();
+    }
 }
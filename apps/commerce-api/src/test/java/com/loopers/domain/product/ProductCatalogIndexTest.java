@@ -0,0 +1,206 @@
+package com.loopers.domain.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("상품 메모리 인덱스 단위 테스트")
+class ProductCatalogIndexTest {
+
+    private ProductCatalogIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductCatalogIndex(true);
+        ProductCatalogIndex.Loader loader = index.beginLoad();
+        loader.add(product(1L, 1L, 10000L, 5L, 3L));
+        loader.add(product(2L, 1L, 30000L, 0L, 10L));
+        loader.add(product(3L, 2L, 20000L, 7L, 1L));
+        loader.add(product(4L, 1L, 15000L, 2L, 8L));
+        loader.publish();
+    }
+
+    @DisplayName("적재 전에는 DB 조회로 넘기도록 빈 값을 반환한다")
+    @Test
+    void 적재전에는_빈값을_반환한다() {
+        // given
+        ProductCatalogIndex notLoaded = new ProductCatalogIndex(true);
+
+        // when & then
+        assertFalse(notLoaded.isReady());
+        assertTrue(notLoaded.search(ProductCriteria.orderByPrice(true), 0, 10).isEmpty());
+    }
+
+    @DisplayName("상품명 검색은 대소문자 구분 없이 부분 일치하는 상품만 반환한다")
+    @Test
+    void 상품명_검색은_대소문자_구분없이_부분일치하는_상품만_반환한다() {
+        // given
+        index.upsert(product(5L, "Nike Air Max", 1L, 150000L, 3L, 0L));
+        index.upsert(product(6L, "나이키 에어 포스", 1L, 120000L, 3L, 0L));
+        index.upsert(product(7L, "Max Air", 2L, 90000L, 3L, 0L));
+
+        // when
+        ProductCatalogIndex.SearchResult airMax = index.search(ProductCriteria.nameContains("AIR MAX"), 0, 10).orElseThrow();
+        ProductCatalogIndex.SearchResult air = index.search(new ProductCriteria(List.of(
+                new ProductCriteria.NameContains("에어"),
+                new ProductCriteria.BrandIdEquals(1L)
+        )), 0, 10).orElseThrow();
+        ProductCatalogIndex.SearchResult none = index.search(ProductCriteria.nameContains("아디다스"), 0, 10).orElseThrow();
+
+        // then
+        assertEquals(List.of(5L), airMax.productIds());
+        assertEquals(List.of(6L), air.productIds());
+        assertEquals(0L, none.totalCount());
+    }
+
+    @DisplayName("삭제된 상품은 상품명 검색 결과에서 제외된다")
+    @Test
+    void 삭제된_상품은_상품명_검색결과에서_제외된다() {
+        // given
+        index.upsert(product(5L, "Nike Air Max", 1L, 150000L, 3L, 0L));
+        index.remove(5L);
+
+        // when
+        ProductCatalogIndex.SearchResult result = index.search(ProductCriteria.nameContains("air"), 0, 10).orElseThrow();
+
+        // then
+        assertTrue(result.productIds().isEmpty());
+    }
+
+    @DisplayName("브랜드와 재고 조건으로 필터링하고 가격순으로 페이징한다")
+    @Test
+    void 브랜드와_재고조건으로_필터링하고_가격순으로_페이징한다() {
+        // given
+        ProductCriteria criteria = new ProductCriteria(List.of(
+                new ProductCriteria.OrderByPrice(false),
+                new ProductCriteria.BrandIdEquals(1L),
+                new ProductCriteria.StockGreaterThan(0L)
+        ));
+
+        // when
+        ProductCatalogIndex.SearchResult firstPage = index.search(criteria, 0, 1).orElseThrow();
+        ProductCatalogIndex.SearchResult secondPage = index.search(criteria, 1, 1).orElseThrow();
+
+        // then
+        assertEquals(2L, firstPage.totalCount());
+        assertEquals(List.of(4L), firstPage.productIds());
+        assertEquals(List.of(1L), secondPage.productIds());
+    }
+
+    @DisplayName("좋아요 수가 바뀌면 좋아요순 정렬에 바로 반영된다")
+    @Test
+    void 좋아요수가_바뀌면_좋아요순_정렬에_바로_반영된다() {
+        // given
+        index.updateLikes(3L, 100L, 1L);
+
+        // when
+        ProductCatalogIndex.SearchResult result = index.search(ProductCriteria.orderByLikeCount(), 0, 10).orElseThrow();
+
+        // then
+        assertEquals(List.of(3L, 2L, 4L, 1L), result.productIds());
+        assertEquals(4L, result.totalCount());
+    }
+
+    @DisplayName("순서가 바뀌어 도착한 이전 좋아요 수는 최신 값을 덮지 않는다")
+    @Test
+    void 순서가_바뀌어_도착한_이전_좋아요수는_최신값을_덮지않는다() {
+        // given
+        index.updateLikes(3L, 100L, 2L);
+
+        // when
+        index.updateLikes(3L, 50L, 1L);
+        ProductCatalogIndex.SearchResult result = index.search(
+                new ProductCriteria(List.of(new ProductCriteria.LikesGreaterThan(99L))), 0, 10
+        ).orElseThrow();
+
+        // then
+        assertEquals(List.of(3L), result.productIds());
+    }
+
+    @DisplayName("재고는 늦게 도착한 더 큰 값으로 되돌아가지 않는다")
+    @Test
+    void 재고는_늦게_도착한_더큰값으로_되돌아가지_않는다() {
+        // given
+        index.updateStock(1L, 0L);
+
+        // when
+        index.updateStock(1L, 3L);
+        ProductCatalogIndex.SearchResult result = index.search(
+                new ProductCriteria(List.of(new ProductCriteria.StockGreaterThan(0L))), 0, 10
+        ).orElseThrow();
+
+        // then
+        assertEquals(List.of(4L, 3L), result.productIds());
+    }
+
+    @DisplayName("조회 중인 스냅샷은 이후의 변경에 영향을 받지 않는다")
+    @Test
+    void 조회중인_스냅샷은_이후의_변경에_영향을_받지않는다() {
+        // given
+        Object before = ReflectionTestUtils.getField(index, "view");
+
+        // when
+        index.updateLikes(3L, 100L, 1L);
+        index.updateStock(4L, 0L);
+        index.remove(2L);
+
+        // then
+        ProductCatalogIndex.SearchResult snapshot = (ProductCatalogIndex.SearchResult) ReflectionTestUtils.invokeMethod(
+                before, "search", ProductCriteria.orderByLikeCount(), 0L, 10
+        );
+        assertEquals(List.of(2L, 4L, 1L, 3L), snapshot.productIds());
+        assertEquals(List.of(3L, 4L, 1L), index.search(ProductCriteria.orderByLikeCount(), 0, 10).orElseThrow().productIds());
+    }
+
+    @DisplayName("삭제된 상품과 새로 추가된 상품이 조회 결과에 반영된다")
+    @Test
+    void 삭제된_상품과_새로_추가된_상품이_조회결과에_반영된다() {
+        // given
+        index.remove(2L);
+        index.upsert(product(5L, 3L, 5000L, 1L, 0L));
+
+        // when
+        ProductCatalogIndex.SearchResult all = index.search(ProductCriteria.orderByPrice(true), 0, 10).orElseThrow();
+        ProductCatalogIndex.SearchResult newBrand = index.search(ProductCriteria.brandIdEquals(3L), 0, 10).orElseThrow();
+
+        // then
+        assertEquals(List.of(5L, 1L, 4L, 3L), all.productIds());
+        assertEquals(List.of(5L), newBrand.productIds());
+    }
+
+    @DisplayName("재적재 중에 들어온 변경은 새 인덱스에도 반영된다")
+    @Test
+    void 재적재중에_들어온_변경은_새인덱스에도_반영된다() {
+        // given
+        ProductCatalogIndex.Loader loader = index.beginLoad();
+        loader.add(product(1L, 1L, 10000L, 5L, 3L));
+        index.updateLikes(1L, 50L, 1L);
+
+        // when
+        loader.publish();
+        ProductCatalogIndex.SearchResult result = index.search(ProductCriteria.orderByLikeCount(), 0, 10).orElseThrow();
+
+        // then
+        assertEquals(List.of(1L), result.productIds());
+        assertEquals(1L, result.totalCount());
+        assertTrue(index.search(new ProductCriteria(List.of(new ProductCriteria.LikesGreaterThan(10L))), 0, 10)
+                .orElseThrow()
+                .productIds()
+                .contains(1L));
+    }
+
+    private ProductEntity product(Long id, Long brandId, Long price, Long stock, Long likes) {
+        return product(id, "상품" + id, brandId, price, stock, likes);
+    }
+
+    private ProductEntity product(Long id, String name, Long brandId, Long price, Long stock, Long likes) {
+        ProductEntity product = new ProductEntity(name, brandId, price, stock, likes);
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
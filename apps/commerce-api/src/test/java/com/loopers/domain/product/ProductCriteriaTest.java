@@ -0,0 +1,86 @@
+package com.loopers.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("상품 검색 조건 단위 테스트")
+class ProductCriteriaTest {
+
+    @DisplayName("검색 조건 키")
+    @Nested
+    class FilterKey {
+
+        @DisplayName("정렬 조건만 다르면 같은 키를 반환한다")
+        @Test
+        void 정렬조건만_다르면_같은_키를_반환한다() {
+            // given
+            ProductCriteria latest = new ProductCriteria(List.of(
+                    new ProductCriteria.OrderByCreatedAt(false),
+                    new ProductCriteria.BrandIdEquals(1L)
+            ));
+            ProductCriteria likes = new ProductCriteria(List.of(
+                    new ProductCriteria.OrderByLikeCount(),
+                    new ProductCriteria.BrandIdEquals(1L)
+            ));
+
+            // when & then
+            assertEquals(latest.filterKey(), likes.filterKey());
+        }
+
+        @DisplayName("검색 조건 순서와 무관하게 같은 키를 반환한다")
+        @Test
+        void 검색조건_순서와_무관하게_같은_키를_반환한다() {
+            // given
+            ProductCriteria first = new ProductCriteria(List.of(
+                    new ProductCriteria.BrandIdEquals(1L),
+                    new ProductCriteria.StockGreaterThan(0L)
+            ));
+            ProductCriteria second = new ProductCriteria(List.of(
+                    new ProductCriteria.StockGreaterThan(0L),
+                    new ProductCriteria.BrandIdEquals(1L)
+            ));
+
+            // when & then
+            assertEquals(first.filterKey(), second.filterKey());
+        }
+
+        @DisplayName("검색 조건이 다르면 다른 키를 반환한다")
+        @Test
+        void 검색조건이_다르면_다른_키를_반환한다() {
+            // when & then
+            assertNotEquals(
+                    ProductCriteria.brandIdEquals(1L).filterKey(),
+                    ProductCriteria.brandIdEquals(2L).filterKey()
+            );
+        }
+    }
+
+    @DisplayName("정렬 키")
+    @Nested
+    class OrderKey {
+
+        @DisplayName("정렬 방향과 이후 정렬 조건이 다르면 다른 키를 반환한다")
+        @Test
+        void 정렬방향과_이후정렬조건이_다르면_다른_키를_반환한다() {
+            // given
+            ProductCriteria priceThenLatest = new ProductCriteria(List.of(
+                    new ProductCriteria.OrderByPrice(true),
+                    new ProductCriteria.OrderByCreatedAt(false)
+            ));
+            ProductCriteria priceThenOldest = new ProductCriteria(List.of(
+                    new ProductCriteria.OrderByPrice(true),
+                    new ProductCriteria.OrderByCreatedAt(true)
+            ));
+
+            // when & then
+            assertNotEquals(ProductCriteria.orderByPrice(true).orderKey(), ProductCriteria.orderByPrice(false).orderKey());
+            assertNotEquals(priceThenLatest.orderKey(), priceThenOldest.orderKey());
+            assertEquals(ProductCriteria.orderByCreatedAt(false).orderKey(), new ProductCriteria(List.of()).orderKey());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("상품 커서 단위 테스트")
+class ProductCursorTest {
+
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 값이 된다")
+    @Test
+    void 인코딩한_커서를_디코딩하면_같은_값이_된다() {
+        // given
+        ProductCursor cursor = new ProductCursor(15000L, 42L);
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        // then
+        assertEquals(cursor, decoded);
+    }
+
+    @DisplayName("커서가 없으면 null 을 반환한다")
+    @Test
+    void 커서가_없으면_null을_반환한다() {
+        // when & then
+        assertNull(ProductCursor.decode(null));
+    }
+
+    @DisplayName("형식이 잘못된 커서는 BAD_REQUEST 예외를 던진다")
+    @Test
+    void 형식이_잘못된_커서는_예외발생() {
+        // when & then
+        assertThrows(CoreException.class, () -> ProductCursor.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.brand.BrandService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "product.deferred-join.offset-threshold=5")
+public class ProductDeferredJoinTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        brandId = brandService.create("나이키").getId();
+        List<ProductEntity> products = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            products.add(new ProductEntity("상품" + i, brandId, i * 1000L, 10L, 0L));
+        }
+        productRepository.save(products);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("임계값 이상의 OFFSET 페이지도 정렬 순서대로 조회된다")
+    @Test
+    void 임계값_이상의_OFFSET_페이지도_정렬순서대로_조회된다() {
+        // given
+        ProductCriteria criteria = ProductCriteria.orderByPrice(false);
+
+        // when
+        Page<ProductEntity> shallow = productService.findProducts(criteria, PageRequest.of(0, 3));
+        Page<ProductEntity> deep = productService.findProducts(criteria, PageRequest.of(2, 3));
+        Page<ProductSummary> deepSummaries = productService.findProductSummaries(criteria, PageRequest.of(2, 3));
+
+        // then
+        assertThat(shallow.getContent()).extracting(ProductEntity::getPrice).containsExactly(12000L, 11000L, 10000L);
+        assertThat(deep.getContent()).extracting(ProductEntity::getPrice).containsExactly(6000L, 5000L, 4000L);
+        assertThat(deep.getTotalElements()).isEqualTo(12);
+        assertThat(deepSummaries.getContent()).extracting(ProductSummary::price).containsExactly(6000L, 5000L, 4000L);
+        assertThat(deepSummaries.getContent()).extracting(ProductSummary::brandName).containsOnly("나이키");
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("상품 쿼리 형태 단위 테스트")
+class ProductQueryShapeTest {
+
+    @DisplayName("검색 조건 값과 순서만 다르면 같은 형태로 취급한다")
+    @Test
+    void 검색조건_값과_순서만_다르면_같은_형태로_취급한다() {
+        // given
+        ProductCriteria first = new ProductCriteria(List.of(
+                new ProductCriteria.OrderByPrice(true),
+                new ProductCriteria.BrandIdEquals(1L),
+                new ProductCriteria.StockGreaterThan(0L)
+        ));
+        ProductCriteria second = new ProductCriteria(List.of(
+                new ProductCriteria.StockGreaterThan(10L),
+                new ProductCriteria.OrderByPrice(true),
+                new ProductCriteria.BrandIdEquals(2L)
+        ));
+
+        // when
+        ProductQueryShape firstShape = ProductQueryShape.of(ProductQueryShape.Kind.ENTITY, first);
+        ProductQueryShape secondShape = ProductQueryShape.of(ProductQueryShape.Kind.ENTITY, second);
+
+        // then
+        assertEquals(firstShape, secondShape);
+        assertEquals(firstShape.jpql(), secondShape.jpql());
+    }
+
+    @DisplayName("정렬 방향이 다르면 다른 형태지만 건수 조회는 같은 형태를 사용한다")
+    @Test
+    void 정렬방향이_다르면_다른형태지만_건수조회는_같은형태를_사용한다() {
+        // given
+        ProductCriteria ascending = ProductCriteria.orderByPrice(true);
+        ProductCriteria descending = ProductCriteria.orderByPrice(false);
+
+        // when & then
+        assertNotEquals(
+                ProductQueryShape.of(ProductQueryShape.Kind.ENTITY, ascending),
+                ProductQueryShape.of(ProductQueryShape.Kind.ENTITY, descending)
+        );
+        assertEquals(
+                ProductQueryShape.of(ProductQueryShape.Kind.COUNT, ascending),
+                ProductQueryShape.of(ProductQueryShape.Kind.COUNT, descending)
+        );
+    }
+
+    @DisplayName("값이 없는 검색 조건은 WHERE 절에 포함하지 않는다")
+    @Test
+    void 값이_없는_검색조건은_WHERE절에_포함하지_않는다() {
+        // given
+        ProductCriteria criteria = new ProductCriteria(List.of(
+                new ProductCriteria.NameContains(" "),
+                new ProductCriteria.PriceRange(1000L, null)
+        ));
+
+        // when
+        String jpql = ProductQueryShape.of(ProductQueryShape.Kind.ENTITY, criteria).jpql();
+
+        // then
+        assertEquals(
+                "SELECT p FROM ProductEntity p WHERE p.deletedAt IS NULL AND p.price >= :minPrice ORDER BY p.createdAt DESC",
+                jpql
+        );
+    }
+}
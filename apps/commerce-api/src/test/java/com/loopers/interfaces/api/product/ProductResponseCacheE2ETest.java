@@ -0,0 +1,166 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductListCache;
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "product.response-cache.enabled=true"
+)
+public class ProductResponseCacheE2ETest {
+
+    private static final String ENDPOINT = "/api/v1/products";
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private ProductListCache productListCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private ProductEntity createProduct(String name, BrandEntity brand) {
+        return productService.createProduct(new ProductCommand.Create(name, brand.getId(), 10000L, 10L, 0L));
+    }
+
+    @DisplayName("상품 상세 응답은 무효화되기 전까지 저장된 본문 그대로 반환된다")
+    @Test
+    void 상품상세_응답은_무효화되기전까지_저장된본문그대로_반환된다() {
+        //given
+        ProductEntity product = createProduct("데님 청바지", brandService.create("APC"));
+        String url = ENDPOINT + "/" + product.getId();
+        ResponseEntity<String> first = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null), String.class);
+
+        // 캐시를 거치지 않고 DB 만 바꾼다.
+        product.incrementLikes();
+        productService.save(product);
+
+        //when
+        ResponseEntity<String> cached = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null), String.class);
+        productFacade.evictProductCacheForLikes(product.getId());
+        ResponseEntity<String> refreshed = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null), String.class);
+
+        //then
+        assertAll(
+                () -> assertThat(cached.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(cached.getBody()).isEqualTo(first.getBody()),
+                () -> assertThat(cached.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag()),
+                () -> assertThat(refreshed.getBody()).contains("\"likes\":1")
+        );
+    }
+
+    @DisplayName("캐시된 응답도 ETag 가 같으면 본문 없이 304 를 반환한다")
+    @Test
+    void 캐시된_응답도_ETag가_같으면_304를_반환한다() {
+        //given
+        ProductEntity product = createProduct("데님 청바지", brandService.create("APC"));
+        String url = ENDPOINT + "/" + product.getId();
+        String etag = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null), String.class)
+                .getHeaders().getETag();
+
+        //when
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> response = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        //then
+        assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                () -> assertThat(response.getBody()).isNull()
+        );
+    }
+
+    @DisplayName("같은 브랜드에 상품이 추가되면 목록 응답 캐시가 무효화된다")
+    @Test
+    void 같은브랜드에_상품이_추가되면_목록응답캐시가_무효화된다() {
+        //given
+        BrandEntity brand = brandService.create("APC");
+        createProduct("데님 청바지", brand);
+        String url = ENDPOINT + "?brandId=" + brand.getId();
+        ResponseEntity<String> first = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null), String.class);
+
+        //when
+        createProduct("데님 자켓", brand);
+        ResponseEntity<String> response = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null), String.class);
+
+        //then
+        assertAll(
+                () -> assertThat(first.getBody()).doesNotContain("데님 자켓"),
+                () -> assertThat(response.getBody()).contains("데님 자켓")
+        );
+    }
+
+    @DisplayName("무효화 전에 시작한 요청의 응답이 무효화 뒤에 저장되어도 이후 요청에는 내려가지 않는다")
+    @Test
+    void 무효화전에_시작한_요청의_응답이_늦게_저장되어도_내려가지_않는다() {
+        //given: 요청이 캐시 키를 정한 뒤 컨트롤러를 실행하는 사이에 상품이 추가된다.
+        BrandEntity brand = brandService.create("APC");
+        createProduct("데님 청바지", brand);
+        String keyBeforeInvalidation = productListCache.responseKey(
+                ProductV1Controller.toCriteria(brand.getId(), "latest"), PageRequest.of(0, 20)
+        );
+        createProduct("데님 자켓", brand);
+
+        //when: 이전 목록으로 만든 응답이 그 뒤에야 저장된다.
+        cacheManager.getCache(ProductListCache.RESPONSE_CACHE_NAME).put(keyBeforeInvalidation, new CachedProductResponse(
+                "{\"stale\":true}".getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON_VALUE, null, -1
+        ));
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                ENDPOINT + "?brandId=" + brand.getId(), HttpMethod.GET, new HttpEntity<>(null), String.class
+        );
+
+        //then
+        assertAll(
+                () -> assertThat(response.getBody()).doesNotContain("stale"),
+                () -> assertThat(response.getBody()).contains("데님 자켓")
+        );
+    }
+}
@@ -11,6 +11,7 @@ import com.loopers.infrastructure.product.ProductJpaRepository;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.api.user.UserV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,7 +21,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,9 +37,13 @@ public class ProductV1ApiE2ETest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @Autowired
@@ -138,4 +145,58 @@ public class ProductV1ApiE2ETest {
                 () -> assertThat(response.getBody().data().likes()).isEqualTo(0L)
         );
     }
+
+    @DisplayName("상품 상세를 ETag 로 다시 조회하면 본문 없이 304 를 반환한다")
+    @Test
+    void 상품상세를_ETag로_다시조회하면_304를_반환한다() {
+        //given
+        ProductEntity product = createProduct("데님 청바지");
+        ParameterizedTypeReference<ApiResponse<ProductV1Dto.V1.ProductResponse>> responseType = new ParameterizedTypeReference<>() {};
+        ResponseEntity<ApiResponse<ProductV1Dto.V1.ProductResponse>> first =
+                testRestTemplate.exchange(ENDPOINT + "/" + product.getId(), HttpMethod.GET, new HttpEntity<>(null), responseType);
+        String etag = first.getHeaders().getETag();
+
+        //when
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<ApiResponse<ProductV1Dto.V1.ProductResponse>> response =
+                testRestTemplate.exchange(ENDPOINT + "/" + product.getId(), HttpMethod.GET, new HttpEntity<>(headers), responseType);
+
+        //then
+        assertAll(
+                () -> assertThat(etag).isNotNull(),
+                () -> assertThat(first.getHeaders().getLastModified()).isPositive(),
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                () -> assertThat(response.getBody()).isNull()
+        );
+    }
+
+    @DisplayName("상품 목록이 바뀌면 이전 ETag 로 조회해도 새 목록을 반환한다")
+    @Test
+    void 상품목록이_바뀌면_이전ETag로_조회해도_새목록을_반환한다() {
+        //given
+        BrandEntity brand = createBrand();
+        createProductWithBrand("데님 청바지", brand);
+        String url = ENDPOINT + "?brandId=" + brand.getId();
+        ParameterizedTypeReference<ApiResponse<ProductV1Dto.V1.GetProductListResponse>> responseType = new ParameterizedTypeReference<>() {};
+        String etag = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null), responseType).getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<ApiResponse<ProductV1Dto.V1.GetProductListResponse>> notModified =
+                testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+
+        //when
+        createProductWithBrand("데님 자켓", brand);
+        ResponseEntity<ApiResponse<ProductV1Dto.V1.GetProductListResponse>> response =
+                testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+
+        //then
+        assertAll(
+                () -> assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                () -> assertThat(response.getStatusCode().is2xxSuccessful()).isTrue(),
+                () -> assertThat(response.getHeaders().getETag()).isNotEqualTo(etag),
+                () -> assertThat(response.getBody().data().products()).hasSize(2)
+        );
+    }
 }
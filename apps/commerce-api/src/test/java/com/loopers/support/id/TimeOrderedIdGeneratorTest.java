@@ -0,0 +1,121 @@
+package com.loopers.support.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("시간순 ID 생성기 단위 테스트")
+class TimeOrderedIdGeneratorTest {
+
+    @DisplayName("한 스레드에서 발급한 ID 는 항상 증가하고 발급 시각을 담는다")
+    @Test
+    void 한스레드에서_발급한_ID는_항상_증가하고_발급시각을_담는다() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+        Instant startedAt = Instant.now();
+
+        // when
+        long previous = generator.nextId();
+        boolean increasing = true;
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            increasing &= next > previous;
+            previous = next;
+        }
+
+        // then
+        assertThat(increasing).isTrue();
+        assertThat(TimeOrderedIdGenerator.timestampOf(previous))
+                .isBetween(startedAt.minusMillis(1), Instant.now().plus(Duration.ofSeconds(1)));
+    }
+
+    @DisplayName("여러 스레드에서 동시에 발급해도 ID 가 겹치지 않는다")
+    @Test
+    void 여러스레드에서_동시에_발급해도_ID가_겹치지않는다() throws Exception {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+        int threadCount = 8;
+        int idsPerThread = 100_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < idsPerThread; i++) {
+                    ids.add(generator.nextId());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+    }
+
+    @DisplayName("노드 ID 가 다르면 같은 시각에 발급해도 겹치지 않는다")
+    @Test
+    void 노드ID가_다르면_같은시각에_발급해도_겹치지않는다() {
+        // given
+        TimeOrderedIdGenerator first = new TimeOrderedIdGenerator(1);
+        TimeOrderedIdGenerator second = new TimeOrderedIdGenerator(2);
+
+        // when
+        long firstId = first.nextId();
+        long secondId = second.nextId();
+
+        // then
+        assertThat(firstId).isNotEqualTo(secondId);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("local/test 프로파일에서만 노드 ID 를 지정하지 않아도 된다")
+    @Test
+    void local_test_프로파일에서만_노드ID를_생략할수있다() {
+        // when
+        long localNodeId = TimeOrderedIdGenerator.resolveNodeId(null, List.of("local"));
+        long testNodeId = TimeOrderedIdGenerator.resolveNodeId(" ", List.of("test"));
+
+        // then
+        assertThat(localNodeId).isEqualTo(TimeOrderedIdGenerator.LOCAL_NODE_ID);
+        assertThat(testNodeId).isEqualTo(TimeOrderedIdGenerator.LOCAL_NODE_ID);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.resolveNodeId(null, List.of("prd")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("지정되지 않았습니다");
+    }
+
+    @DisplayName("지정한 노드 ID 가 숫자가 아니거나 범위를 벗어나면 설정 오류를 알린다")
+    @Test
+    void 지정한_노드ID가_잘못되면_설정오류를_알린다() {
+        // when & then
+        assertThat(TimeOrderedIdGenerator.resolveNodeId(" 17 ", List.of("prd"))).isEqualTo(17L);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.resolveNodeId("node-1", List.of("prd")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("숫자여야 합니다");
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.resolveNodeId("1024", List.of("prd")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("0 ~ 1023");
+    }
+}
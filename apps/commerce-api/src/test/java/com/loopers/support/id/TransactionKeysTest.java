@@ -0,0 +1,81 @@
+package com.loopers.support.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("결제 트랜잭션 키 단위 테스트")
+class TransactionKeysTest {
+
+    @DisplayName("트랜잭션 키는 yyyyMMdd:TR: 형식으로 시작한다")
+    @Test
+    void 트랜잭션키는_날짜_TR_형식으로_시작한다() {
+        // when
+        String key = TransactionKeys.next();
+
+        // then
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        assertThat(key).matches("\\d{8}:TR:[0-9a-f]{16}");
+        assertThat(key).startsWith(today + ":TR:");
+    }
+
+    @DisplayName("여러 스레드에서 수백만 개를 발급해도 키가 겹치지 않고 한 스레드 안에서는 순서대로 발급된다")
+    @Test
+    void 여러스레드에서_수백만개를_발급해도_키가_겹치지않는다() throws Exception {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+        int threadCount = 16;
+        int keysPerThread = 250_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        // 키를 모두 문자열로 들고 있으면 메모리가 크므로, 형식과 순서를 확인한 뒤 16진수 부분만 모은다.
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long[] suffixes = new long[keysPerThread];
+                String previous = "";
+                for (int i = 0; i < keysPerThread; i++) {
+                    String key = TransactionKeys.next(generator);
+                    if (key.length() != 28 || !key.startsWith(":TR:", 8) || key.compareTo(previous) <= 0) {
+                        throw new IllegalStateException("잘못된 키: " + key + " (이전 키: " + previous + ")");
+                    }
+                    suffixes[i] = Long.parseUnsignedLong(key.substring(12), 16);
+                    previous = key;
+                }
+                return suffixes;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[threadCount * keysPerThread];
+        for (int t = 0; t < threadCount; t++) {
+            System.arraycopy(futures.get(t).get(), 0, all, t * keysPerThread, keysPerThread);
+        }
+        executor.shutdown();
+
+        // then
+        Arrays.sort(all);
+        long duplicates = 0;
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                duplicates++;
+            }
+        }
+        assertThat(all).hasSize(4_000_000);
+        assertThat(duplicates).isZero();
+    }
+}
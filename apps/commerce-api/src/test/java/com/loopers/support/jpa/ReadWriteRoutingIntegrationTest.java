@@ -0,0 +1,133 @@
+package com.loopers.support.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 환경은 primary 와 replica 풀이 같은 DB 를 가리키므로, 어느 풀의 커넥션을 사용 중인지로 라우팅을 확인한다.
+ */
+@SpringBootTest
+class ReadWriteRoutingIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    @Qualifier("mySqlReplicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @AfterEach
+    void tearDown() {
+        readYourWritesTracker.clear();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 replica 풀의 커넥션을 사용한다")
+    @Test
+    void 읽기전용_트랜잭션은_replica풀의_커넥션을_사용한다() {
+        // when
+        int activeReplicaConnections = runQuery(true);
+
+        // then
+        assertThat(activeReplicaConnections).isEqualTo(1);
+    }
+
+    @DisplayName("쓰기 트랜잭션은 primary 풀의 커넥션을 사용한다")
+    @Test
+    void 쓰기_트랜잭션은_primary풀의_커넥션을_사용한다() {
+        // when
+        int activeReplicaConnections = runQuery(false);
+
+        // then
+        assertThat(activeReplicaConnections).isZero();
+    }
+
+    @DisplayName("쓰기를 한 사용자의 읽기 전용 트랜잭션은 잠시 동안 primary 풀을 사용한다")
+    @Test
+    void 쓰기를_한_사용자의_읽기전용_트랜잭션은_잠시동안_primary풀을_사용한다() {
+        // given
+        readYourWritesTracker.bind("writer");
+        runQuery(false);
+
+        // when
+        int writerReplicaConnections = runQuery(true);
+        readYourWritesTracker.bind("reader");
+        int readerReplicaConnections = runQuery(true);
+
+        // then
+        assertThat(writerReplicaConnections).isZero();
+        assertThat(readerReplicaConnections).isEqualTo(1);
+    }
+
+    @DisplayName("롤백된 쓰기 트랜잭션은 사용자의 읽기를 primary 로 고정하지 않는다")
+    @Test
+    void 롤백된_쓰기_트랜잭션은_primary로_고정하지_않는다() {
+        // given
+        readYourWritesTracker.bind("rolled-back");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("SELECT 1").getSingleResult();
+            status.setRollbackOnly();
+        });
+
+        // when
+        int activeReplicaConnections = runQuery(true);
+
+        // then
+        assertThat(activeReplicaConnections).isEqualTo(1);
+    }
+
+    @DisplayName("쓰기 트랜잭션이 커밋되기 전에는 사용자의 읽기를 primary 로 고정하지 않는다")
+    @Test
+    void 쓰기_트랜잭션이_커밋되기_전에는_primary로_고정하지_않는다() {
+        // given
+        readYourWritesTracker.bind("writer");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        Boolean pinnedBeforeCommit = transactionTemplate.execute(status -> {
+            entityManager.createNativeQuery("SELECT 1").getSingleResult();
+            return readYourWritesTracker.isPinned();
+        });
+
+        // then
+        assertThat(pinnedBeforeCommit).isFalse();
+        assertThat(readYourWritesTracker.isPinned()).isTrue();
+    }
+
+    @DisplayName("primary 에서 읽기 구간의 읽기 전용 트랜잭션은 primary 풀을 사용한다")
+    @Test
+    void primary에서_읽기_구간의_읽기전용_트랜잭션은_primary풀을_사용한다() {
+        // when
+        int activeReplicaConnections = readYourWritesTracker.readFromPrimary(() -> runQuery(true));
+
+        // then
+        assertThat(activeReplicaConnections).isZero();
+        assertThat(runQuery(true)).isEqualTo(1);
+    }
+
+    // 트랜잭션 안에서 쿼리를 실행한 직후 replica 풀에서 사용 중인 커넥션 수를 반환한다.
+    private int runQuery(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> {
+            entityManager.createNativeQuery("SELECT 1").getSingleResult();
+            return replicaDataSource.getHikariPoolMXBean().getActiveConnections();
+        });
+    }
+}
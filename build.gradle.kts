@@ -81,7 +81,20 @@ subprojects {
 
     tasks.test {
         maxParallelForks = 1
-        useJUnitPlatform()
+        // 시간 측정 테스트는 기본 테스트에서 제외하고 benchmark task 로 따로 실행한다.
+        useJUnitPlatform { excludeTags("benchmark") }
+        systemProperty("user.timezone", "Asia/Seoul")
+        systemProperty("spring.profiles.active", "test")
+        jvmArgs("-Xshare:off")
+    }
+
+    tasks.register<Test>("benchmark") {
+        description = "benchmark 태그가 붙은 시간 측정 테스트를 실행한다."
+        group = "verification"
+        testClassesDirs = tasks.test.get().testClassesDirs
+        classpath = tasks.test.get().classpath
+        maxParallelForks = 1
+        useJUnitPlatform { includeTags("benchmark") }
         systemProperty("user.timezone", "Asia/Seoul")
         systemProperty("spring.profiles.active", "test")
         jvmArgs("-Xshare:off")
@@ -1,13 +1,24 @@
 package com.loopers.config.jpa;
 
+import com.loopers.support.jpa.ReadYourWritesTracker;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * primary(main) 와 replica 커넥션 풀을 따로 두고, 트랜잭션의 read-only 여부로 라우팅한다.
+ * 두 풀은 각각 빈으로 등록되어 풀 이름(pool-name) 별로 Hikari 메트릭이 수집된다.
+ */
 @Configuration
 class DataSourceConfig {
     @Bean
@@ -16,9 +27,43 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
+    @Bean
+    @ConfigurationProperties(prefix = "datasource.mysql-jpa.replica")
+    HikariConfig mySqlReplicaHikariConfig() {
+        return new HikariConfig();
+    }
+
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    @Bean
+    HikariDataSource mySqlReplicaDataSource(@Qualifier("mySqlReplicaHikariConfig") HikariConfig hikariConfig) {
+        return new HikariDataSource(hikariConfig);
+    }
+
+    @Bean
+    ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.mysql-jpa.routing.read-your-writes-window:3s}") Duration window
+    ) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Primary
+    @Bean
+    DataSource mySqlRoutingDataSource(
+            @Qualifier("mySqlMainDataSource") DataSource mainDataSource,
+            @Qualifier("mySqlReplicaDataSource") DataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, mainDataSource,
+                ReadWriteRoutingDataSource.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(mainDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
 }
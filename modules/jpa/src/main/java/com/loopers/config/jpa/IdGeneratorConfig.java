@@ -0,0 +1,20 @@
+package com.loopers.config.jpa;
+
+import com.loopers.support.id.TimeOrderedIdGenerator;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 공유 시간순 ID 생성기의 노드 ID 를 id.node-id(없으면 ID_NODE_ID) 설정으로 정한다.
+ * 앱과 인스턴스마다 다른 값을 지정해야 하며, local/test 외 프로파일에서 지정하지 않거나 범위를 벗어나면 애플리케이션이 시작되지 않는다.
+ */
+@Configuration
+class IdGeneratorConfig {
+    IdGeneratorConfig(Environment environment) {
+        String configured = environment.getProperty("id.node-id", environment.getProperty("ID_NODE_ID", ""));
+        long nodeId = TimeOrderedIdGenerator.resolveNodeId(configured, List.of(environment.getActiveProfiles()));
+        TimeOrderedIdGenerator.configureDefault(nodeId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.config.jpa;
+
+import com.loopers.support.jpa.ReadYourWritesTracker;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary 로 보낸다.
+ * 최근에 쓰기를 한 사용자의 읽기는 ReadYourWritesTracker 에 따라 primary 로 보낸다. (쓰기는 커밋된 뒤에 기록된다)
+ *
+ * 트랜잭션 시작 시점에는 아직 read-only 여부가 설정되지 않으므로,
+ * 실제 커넥션을 첫 쿼리 시점에 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    ReadWriteRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.markWrittenOnCommit();
+            return PRIMARY;
+        }
+        return readYourWritesTracker.isPinned() ? PRIMARY : REPLICA;
+    }
+}
@@ -1,8 +1,6 @@
 package com.loopers.domain;
 
 import jakarta.persistence.Column;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
@@ -18,9 +16,10 @@ import java.time.ZonedDateTime;
 @Getter
 public abstract class BaseEntity {
 
+    // 저장 전에는 null 이어야 Spring Data 가 새 엔티티로 보고 merge(SELECT) 없이 persist 한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private final Long id = 0L;
+    @BaseEntityId
+    private Long id;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private ZonedDateTime createdAt;
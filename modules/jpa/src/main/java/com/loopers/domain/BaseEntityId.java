@@ -0,0 +1,17 @@
+package com.loopers.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * BaseEntity 의 ID 생성 전략을 BaseEntityIdGenerator 에 맡긴다.
+ */
+@IdGeneratorType(BaseEntityIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@interface BaseEntityId {
+}
@@ -0,0 +1,41 @@
+package com.loopers.domain;
+
+import com.loopers.support.id.TimeOrderedIdGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * BaseEntity ID 생성 전략. 엔티티에 @TimeOrderedId 가 있으면 INSERT 전에 시간순 ID 를 발급하고,
+ * 없으면 기존처럼 DB IDENTITY 컬럼 값을 사용한다. 엔티티별로 한 번 정해지며 실행 중에 바뀌지 않는다.
+ */
+public class BaseEntityIdGenerator extends IdentityGenerator implements BeforeExecutionGenerator {
+
+    private final boolean timeOrdered;
+
+    public BaseEntityIdGenerator(BaseEntityId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.timeOrdered = context.getRootClass().getMappedClass().isAnnotationPresent(TimeOrderedId.class);
+    }
+
+    @Override
+    public boolean generatedOnExecution() {
+        return !timeOrdered;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return TimeOrderedIdGenerator.getDefault().nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * BaseEntity 를 상속한 엔티티의 ID 를 DB IDENTITY 대신 애플리케이션에서 시간순 ID 로 발급한다.
+ * INSERT 전에 ID 가 정해지므로 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있다.
+ *
+ * 발급된 ID 는 2^53 보다 크므로 JavaScript 클라이언트에 숫자로 내려주면 정밀도를 잃는다.
+ * 응답에 담을 때는 @JsonFormat(shape = STRING) 등으로 문자열로 직렬화한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedId {
+}
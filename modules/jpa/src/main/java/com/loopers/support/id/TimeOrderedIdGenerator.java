@@ -0,0 +1,139 @@
+package com.loopers.support.id;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순으로 증가하는 64비트 ID 생성기. (Snowflake 방식)
+ *
+ * [부호 1비트][기준 시각 이후 밀리초 41비트][노드 10비트][시퀀스 12비트]
+ *
+ * 마지막으로 발급한 (밀리초, 시퀀스)를 AtomicLong 하나에 두고 CAS 로 갱신하므로 lock 없이 동작한다.
+ * 같은 밀리초에 시퀀스를 모두 쓰면 다음 밀리초 값을 미리 당겨 쓰고, 시계가 뒤로 가도 마지막 값보다 큰 값을 발급한다.
+ * 따라서 한 노드 안에서는 항상 단조 증가하고, 노드 ID 가 다르면 노드 간에도 겹치지 않는다.
+ *
+ * 노드 ID 가 겹치면 같은 밀리초에 같은 ID 가 나올 수 있으므로, local/test 외 프로파일에서는 노드 ID 를 반드시 지정해야 한다.
+ */
+public final class TimeOrderedIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    // local/test 에서 노드 ID 를 지정하지 않았을 때 쓰는 값
+    static final long LOCAL_NODE_ID = 0;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final Set<String> LOCAL_PROFILES = Set.of("local", "test");
+
+    private static volatile TimeOrderedIdGenerator defaultGenerator;
+
+    private final long nodeId;
+    // (기준 시각 이후 밀리초 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong last = new AtomicLong();
+
+    public TimeOrderedIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 애플리케이션 전체에서 공유하는 생성기.
+     * 스프링 애플리케이션은 시작할 때 id.node-id 설정으로 노드 ID 를 정한다. (IdGeneratorConfig)
+     * 그 전에 호출되면 ID_NODE_ID 환경 변수(또는 id.node-id 시스템 속성)와 활성 프로파일로 노드 ID 를 정한다.
+     */
+    public static TimeOrderedIdGenerator getDefault() {
+        TimeOrderedIdGenerator generator = defaultGenerator;
+        if (generator != null) {
+            return generator;
+        }
+        synchronized (TimeOrderedIdGenerator.class) {
+            if (defaultGenerator == null) {
+                defaultGenerator = new TimeOrderedIdGenerator(resolveNodeId(systemNodeId(), systemProfiles()));
+            }
+            return defaultGenerator;
+        }
+    }
+
+    /**
+     * 공유 생성기의 노드 ID 를 정한다.
+     * 이미 다른 노드 ID 로 만들어졌다면 교체한다. 이전 생성기가 발급한 ID 와는 노드 비트가 달라 겹치지 않는다.
+     */
+    public static synchronized void configureDefault(long nodeId) {
+        if (defaultGenerator == null || defaultGenerator.nodeId != nodeId) {
+            defaultGenerator = new TimeOrderedIdGenerator(nodeId);
+        }
+    }
+
+    /**
+     * 설정된 노드 ID 를 검증하여 반환한다.
+     * 지정하지 않았으면 local/test 프로파일에서만 LOCAL_NODE_ID 를 쓰고, 그 밖의 프로파일에서는 예외를 던진다.
+     */
+    public static long resolveNodeId(String configured, Collection<String> activeProfiles) {
+        if (configured == null || configured.isBlank()) {
+            if (!activeProfiles.isEmpty() && LOCAL_PROFILES.containsAll(activeProfiles)) {
+                return LOCAL_NODE_ID;
+            }
+            throw new IllegalStateException("노드 ID(id.node-id 또는 ID_NODE_ID)가 지정되지 않았습니다. "
+                    + "local/test 외 프로파일에서는 노드마다 0 ~ " + MAX_NODE_ID + " 사이의 서로 다른 값을 지정해야 합니다: profiles=" + activeProfiles);
+        }
+        long nodeId;
+        try {
+            nodeId = Long.parseLong(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("노드 ID(id.node-id 또는 ID_NODE_ID)는 숫자여야 합니다: " + configured, e);
+        }
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalStateException("노드 ID(id.node-id 또는 ID_NODE_ID)는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        return nodeId;
+    }
+
+    public long nextId() {
+        long state = nextState();
+        long millis = state >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (state & SEQUENCE_MASK);
+    }
+
+    /**
+     * ID 에 기록된 발급 시각. (시퀀스를 당겨 쓴 경우 실제 발급 시각보다 조금 늦을 수 있다)
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    private long nextState() {
+        while (true) {
+            long previous = last.get();
+            long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long next = Math.max(now, previous + 1);
+            if (last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static String systemNodeId() {
+        String configured = System.getenv("ID_NODE_ID");
+        return configured != null ? configured : System.getProperty("id.node-id");
+    }
+
+    // 프로파일을 지정하지 않으면 application.yml 의 기본값(local)이 활성화된다.
+    private static Collection<String> systemProfiles() {
+        String profiles = System.getProperty("spring.profiles.active");
+        if (profiles == null) {
+            profiles = System.getenv("SPRING_PROFILES_ACTIVE");
+        }
+        if (profiles == null || profiles.isBlank()) {
+            return Set.of("local");
+        }
+        return Arrays.stream(profiles.split(",")).map(String::trim).filter(profile -> !profile.isEmpty()).toList();
+    }
+}
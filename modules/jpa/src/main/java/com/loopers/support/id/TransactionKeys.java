@@ -0,0 +1,50 @@
+package com.loopers.support.id;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 결제 트랜잭션 키 생성. 형식은 yyyyMMdd:TR:{16자리 16진수} 이다.
+ * 뒤의 16진수는 TimeOrderedIdGenerator 의 ID 이므로 한 노드 안에서 겹치지 않고, 문자열 순서가 발급 순서와 같다.
+ * 날짜는 ID 에 기록된 시각 기준이며, 같은 날짜의 접두사는 재사용한다.
+ */
+public final class TransactionKeys {
+
+    private static final String KEY_TRANSACTION = "TR";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static volatile DatePrefix datePrefix = new DatePrefix(LocalDate.MIN, "");
+
+    private TransactionKeys() {
+    }
+
+    public static String next() {
+        return next(TimeOrderedIdGenerator.getDefault());
+    }
+
+    static String next(TimeOrderedIdGenerator generator) {
+        long id = generator.nextId();
+        return prefixOf(TimeOrderedIdGenerator.timestampOf(id)) + hex(id);
+    }
+
+    private static String prefixOf(Instant timestamp) {
+        LocalDate date = LocalDate.ofInstant(timestamp, ZONE);
+        DatePrefix current = datePrefix;
+        if (!current.date().equals(date)) {
+            current = new DatePrefix(date, DATE_FORMATTER.format(date) + ":" + KEY_TRANSACTION + ":");
+            datePrefix = current;
+        }
+        return current.prefix();
+    }
+
+    // 자리수를 고정하여 문자열 정렬이 숫자 정렬과 같도록 한다.
+    private static String hex(long id) {
+        String hex = Long.toHexString(id);
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+
+    private record DatePrefix(LocalDate date, String prefix) {}
+}
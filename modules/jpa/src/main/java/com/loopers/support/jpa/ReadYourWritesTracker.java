@@ -0,0 +1,123 @@
+package com.loopers.support.jpa;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자가 쓰기 트랜잭션을 실행한 뒤 잠시 동안은 읽기 전용 트랜잭션도 primary 로 보내도록 기록한다.
+ * 복제 지연 동안 자신이 방금 쓴 데이터가 replica 에서 보이지 않는 문제를 피한다.
+ *
+ * 요청을 처리하는 동안 bind 로 사용자 키를 스레드에 묶어 두고, 요청이 끝나면 clear 로 해제한다.
+ * 기록은 노드 메모리에만 남으므로 같은 사용자의 다음 요청이 다른 노드로 가면 적용되지 않는다.
+ *
+ * 사용자와 관계없이 primary 에서 읽어야 하는 구간(캐시를 채우는 조회 등)은 readFromPrimary 로 감싼다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final ThreadLocal<String> currentKey = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> primaryRead = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.window = window;
+    }
+
+    public void bind(String key) {
+        currentKey.set(key);
+    }
+
+    public void clear() {
+        currentKey.remove();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 쓰기를 기록한다. 트랜잭션 밖이면 바로 기록한다.
+     * 커넥션을 얻는 시점에 기록하면 긴 트랜잭션에서는 커밋 전에 기간이 지나 버리고, 롤백된 트랜잭션도 primary 로 고정된다.
+     */
+    public void markWrittenOnCommit() {
+        if (currentKey.get() == null || window.isZero()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWritten();
+            return;
+        }
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(MarkWrittenOnCommit.class::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new MarkWrittenOnCommit());
+        }
+    }
+
+    /**
+     * 현재 사용자가 쓰기를 했음을 기록한다. 사용자 키가 없으면 아무것도 하지 않는다.
+     */
+    public void markWritten() {
+        String key = currentKey.get();
+        if (key == null || window.isZero()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        pinnedUntil.put(key, now + window.toMillis());
+        if (pinnedUntil.size() > PURGE_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until < now);
+        }
+    }
+
+    /**
+     * reader 안에서 시작한 읽기 전용 트랜잭션은 primary 에서 읽는다.
+     * 커밋 직후 캐시를 지운 뒤 다시 채울 때 아직 복제되지 않은 이전 값을 replica 에서 읽어 캐시에 넣지 않도록 한다.
+     * 커넥션은 트랜잭션의 첫 쿼리에서 정해지므로, 첫 쿼리가 reader 안에서 실행되어야 한다.
+     */
+    public <T> T readFromPrimary(Supplier<T> reader) {
+        Boolean previous = primaryRead.get();
+        primaryRead.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                primaryRead.remove();
+            } else {
+                primaryRead.set(previous);
+            }
+        }
+    }
+
+    /**
+     * primary 에서 읽어야 하는 구간이거나, 현재 사용자가 최근에 쓰기를 해서 primary 에서 읽어야 하는지 확인한다.
+     */
+    public boolean isPinned() {
+        if (Boolean.TRUE.equals(primaryRead.get())) {
+            return true;
+        }
+        String key = currentKey.get();
+        if (key == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            pinnedUntil.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    private class MarkWrittenOnCommit implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            markWritten();
+        }
+    }
+}
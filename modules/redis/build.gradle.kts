@@ -5,6 +5,8 @@ plugins {
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    // local cache
+    api("com.github.ben-manes.caffeine:caffeine")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
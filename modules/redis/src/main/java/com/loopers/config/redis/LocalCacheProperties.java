@@ -0,0 +1,21 @@
+package com.loopers.config.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 캐시 앞단에 두는 로컬(L1) 캐시 설정.
+ * cacheNames 에 포함된 캐시만 L1 을 거친다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "cache.local")
+public class LocalCacheProperties {
+    private final List<String> cacheNames;
+    private final Long maximumSize;
+    private final Duration ttl;
+}
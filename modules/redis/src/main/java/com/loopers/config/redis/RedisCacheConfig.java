@@ -1,53 +1,170 @@
 package com.loopers.config.redis;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.loopers.support.cache.BinaryCacheValueSerializer;
+import com.loopers.support.cache.CacheEnvelope;
+import com.loopers.support.cache.CacheInvalidationListener;
+import com.loopers.support.cache.CacheInvalidationPublisher;
+import com.loopers.support.cache.CacheLoadLease;
+import com.loopers.support.cache.CacheTtl;
+import com.loopers.support.cache.CacheValueCodec;
+import com.loopers.support.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(LocalCacheProperties.class)
 public class RedisCacheConfig {
 
-    public static final String CACHE_PRODUCT_DETAIL = "product:detail";
-    public static final String CACHE_PRODUCT_LIST   = "product:list";
+    public static final String CACHE_PRODUCT_DETAIL = "product";
+    public static final String CACHE_PRODUCT_LIST   = "productList";
+    public static final String CACHE_PRODUCT_COUNT  = "productCount";
+    // 직렬화가 끝난 상품 API 응답 본문. 상세/목록 데이터 캐시와 같은 시점에 무효화된다.
+    public static final String CACHE_PRODUCT_RESPONSE = "productResponse";
 
+    private static final String CONNECTION_PUB_SUB = "redisConnectionPubSub";
+
+    // 엔트리를 쓸 때마다 지터를 새로 계산하여 같은 시점에 채워진 엔트리가 함께 만료되지 않도록 한다.
+    private static final Map<String, CacheTtl> CACHE_TTLS = Map.of(
+            CACHE_PRODUCT_DETAIL, new CacheTtl(Duration.ofMinutes(30), Duration.ofSeconds(30)),
+            CACHE_PRODUCT_LIST,   new CacheTtl(Duration.ofMinutes(30), Duration.ofSeconds(30)),
+            CACHE_PRODUCT_COUNT,  new CacheTtl(Duration.ofMinutes(10), Duration.ofSeconds(30)),
+            CACHE_PRODUCT_RESPONSE, new CacheTtl(Duration.ofMinutes(30), Duration.ofSeconds(30))
+    );
+
+    /**
+     * 캐시 값은 등록된 코덱(CacheValueCodec 빈)이 있으면 바이너리로, 없으면 JSON 으로 저장한다.
+     * binary-write 를 끄면 두 형식을 모두 읽되 JSON 으로만 쓴다. (모든 노드가 바이너리를 읽을 수 있게 된 뒤 켠다)
+     */
     @Bean
-    @Primary
-    public RedisCacheManager redisCacheManager(LettuceConnectionFactory cf) {
+    public RedisCacheManager redisCacheManager(
+            LettuceConnectionFactory cf,
+            ObjectProvider<CacheValueCodec> cacheValueCodecs,
+            @Value("${cache.codec.binary-write:false}") boolean binaryWrite,
+            @Value("${cache.codec.compression-threshold:1024}") int compressionThreshold
+    ) {
+        BinaryCacheValueSerializer serializer = new BinaryCacheValueSerializer(
+                cacheValueCodecs.orderedStream().toList(),
+                new GenericJackson2JsonRedisSerializer(),
+                binaryWrite,
+                compressionThreshold
+        );
 
         RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig()
                 .disableCachingNullValues()
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
-                )
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                 .computePrefixWith(name -> name + "::");
 
-        RedisCacheConfiguration detailCfg = base.entryTtl(withJitter(Duration.ofMinutes(30)));
-        RedisCacheConfiguration listCfg   = base.entryTtl(withJitter(Duration.ofMinutes(30)));
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        CACHE_TTLS.forEach((name, ttl) -> configurations.put(name, base.entryTtl(ttlFunction(ttl))));
 
         return RedisCacheManager.builder(cf)
                 .cacheDefaults(base)
-                .withInitialCacheConfigurations(Map.of(
-                        CACHE_PRODUCT_DETAIL, detailCfg,
-                        CACHE_PRODUCT_LIST,   listCfg
-                ))
+                .withInitialCacheConfigurations(configurations)
                 .build();
     }
 
-    private Duration withJitter(Duration base) {
-        return base.plusSeconds(ThreadLocalRandom.current().nextInt(0, 30));
+    /**
+     * Redis 캐시 앞단에 로컬(L1) 캐시를 둔 캐시 매니저.
+     * 자주 조회되는 캐시는 네트워크 왕복과 역직렬화 없이 로컬 메모리에서 응답한다.
+     */
+    @Primary
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+            RedisCacheManager redisCacheManager,
+            LocalCacheProperties localCacheProperties,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            CacheLoadLease cacheLoadLease,
+            LettuceConnectionFactory cf
+    ) {
+        return new TwoLevelCacheManager(
+                redisCacheManager,
+                localCacheProperties.getCacheNames(),
+                localCacheProperties.getMaximumSize(),
+                localCacheProperties.getTtl(),
+                cacheInvalidationPublisher,
+                cacheLoadLease,
+                CACHE_TTLS,
+                cf
+        );
+    }
+
+    /**
+     * 캐시 미스 시 노드 간 로딩 임대. 로딩은 보통 수십 ms 이므로 짧게 잡는다.
+     */
+    @Bean
+    public CacheLoadLease cacheLoadLease(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        return new CacheLoadLease(
+                redisTemplate,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(3),
+                Duration.ofMillis(50)
+        );
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        return new CacheInvalidationPublisher(redisTemplate);
+    }
+
+    /**
+     * Master/Replica 커넥션은 pub/sub 구독을 지원하지 않으므로 구독 전용으로 master 에 직접 연결한다.
+     */
+    @Bean
+    @Qualifier(CONNECTION_PUB_SUB)
+    public LettuceConnectionFactory pubSubRedisConnectionFactory(
+            @Value("${datasource.redis.master.host}") String host,
+            @Value("${datasource.redis.master.port}") int port,
+            @Value("${datasource.redis.database}") int database
+    ) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        configuration.setDatabase(database);
+        return new LettuceConnectionFactory(configuration);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            @Qualifier(CONNECTION_PUB_SUB) LettuceConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            CacheInvalidationPublisher cacheInvalidationPublisher
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener(cacheManager, cacheInvalidationPublisher.getNodeId()),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL)
+        );
+        return container;
+    }
+
+    private RedisCacheWriter.TtlFunction ttlFunction(CacheTtl ttl) {
+        // envelope 는 이미 정한 만료 시각을 따라야 XFetch 판단과 실제 만료가 일치한다.
+        return (key, value) -> value instanceof CacheEnvelope envelope
+                ? envelope.remainingTtl()
+                : ttl.next();
     }
-}
\ No newline at end of file
+}
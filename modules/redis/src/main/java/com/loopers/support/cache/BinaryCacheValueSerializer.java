@@ -0,0 +1,206 @@
+package com.loopers.support.cache;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 값을 [버전][플래그][본문] 형태의 바이너리로 저장한다.
+ * 본문은 envelope 여부와 코덱 id 뒤에 코덱이 인코딩한 값을 둔다. 등록된 코덱이 없는 타입은 JSON(fallback)으로 감싼다.
+ * 본문이 압축 기준보다 크면 Deflate 로 압축하고 플래그에 표시한다.
+ *
+ * 첫 바이트가 버전이 아니면 기존 JSON 값으로 보고 fallback 으로 읽으므로, 배포 중에도 이전 값이 그대로 읽힌다.
+ * 모르는 버전은 캐시 미스(null)로 처리한다. writeBinary 가 false 이면 읽기만 지원하고 JSON 으로 쓴다.
+ * JSON 으로 다시 만들 수 없는 Page 는 CachedPage 로 바꿔 저장하고 읽을 때 Page 로 복원한다.
+ * 잘리거나 손상된 값은 SerializationException 으로 알린다.
+ */
+public class BinaryCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte VERSION = 0x01;
+
+    private static final int FLAG_COMPRESSED = 1;
+    private static final int RAW_VALUE = 0;
+    private static final int ENVELOPE = 1;
+    private static final byte FALLBACK_CODEC_ID = 0;
+    private static final int MAX_CODEC_ID = 127;
+    // 손상된 길이 값으로 큰 배열을 잡지 않도록 압축 해제 크기를 제한한다.
+    private static final int MAX_DECOMPRESSED_LENGTH = 16 * 1024 * 1024;
+
+    private final List<CacheValueCodec> codecs;
+    private final CacheValueCodec[] codecsById = new CacheValueCodec[MAX_CODEC_ID + 1];
+    private final RedisSerializer<Object> fallback;
+    private final boolean writeBinary;
+    private final int compressionThreshold;
+
+    public BinaryCacheValueSerializer(
+            List<CacheValueCodec> codecs,
+            RedisSerializer<Object> fallback,
+            boolean writeBinary,
+            int compressionThreshold
+    ) {
+        for (CacheValueCodec codec : codecs) {
+            if (codec.id() <= FALLBACK_CODEC_ID || codec.id() > MAX_CODEC_ID) {
+                throw new IllegalArgumentException("캐시 코덱 id 는 1~" + MAX_CODEC_ID + " 이어야 합니다: " + codec.id());
+            }
+            if (codecsById[codec.id()] != null) {
+                throw new IllegalArgumentException("캐시 코덱 id 가 중복되었습니다: " + codec.id());
+            }
+            codecsById[codec.id()] = codec;
+        }
+        this.codecs = List.copyOf(codecs);
+        this.fallback = fallback;
+        this.writeBinary = writeBinary;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!writeBinary) {
+            return serializeJson(value);
+        }
+
+        CacheValueWriter body = new CacheValueWriter(256);
+        if (value instanceof CacheEnvelope envelope) {
+            body.writeByte(ENVELOPE);
+            body.writeLong(envelope.computeMillis());
+            body.writeLong(envelope.expiresAtMillis());
+            writeValue(envelope.value(), body);
+        } else {
+            body.writeByte(RAW_VALUE);
+            writeValue(value, body);
+        }
+
+        if (body.length() < compressionThreshold) {
+            byte[] bytes = new byte[body.length() + 2];
+            bytes[0] = VERSION;
+            bytes[1] = 0;
+            System.arraycopy(body.buffer(), 0, bytes, 2, body.length());
+            return bytes;
+        }
+        return compress(body);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != VERSION) {
+            // JSON 은 0x01 로 시작하지 않는다. 그 외의 값은 다른 버전의 바이너리로 보고 미스 처리한다.
+            return bytes[0] >= 0 && bytes[0] < 0x20 ? null : deserializeJson(bytes);
+        }
+
+        byte[] body = (bytes[1] & FLAG_COMPRESSED) != 0 ? decompress(bytes) : null;
+        CacheValueReader reader = new CacheValueReader(body != null ? body : bytes, body != null ? 0 : 2);
+        if (reader.readByte() == ENVELOPE) {
+            long computeMillis = reader.readLong();
+            long expiresAtMillis = reader.readLong();
+            return new CacheEnvelope(readValue(reader), computeMillis, expiresAtMillis);
+        }
+        return readValue(reader);
+    }
+
+    private void writeValue(Object value, CacheValueWriter writer) {
+        for (CacheValueCodec codec : codecs) {
+            if (codec.supports(value)) {
+                writer.writeByte(codec.id());
+                codec.write(value, writer);
+                return;
+            }
+        }
+        writer.writeByte(FALLBACK_CODEC_ID);
+        writer.writeBytes(serializeJson(value));
+    }
+
+    private Object readValue(CacheValueReader reader) {
+        int codecId = reader.readByte();
+        if (codecId == FALLBACK_CODEC_ID) {
+            return deserializeJson(reader.readBytes());
+        }
+        CacheValueCodec codec = codecId > FALLBACK_CODEC_ID && codecId <= MAX_CODEC_ID ? codecsById[codecId] : null;
+        if (codec == null) {
+            throw new SerializationException("등록되지 않은 캐시 코덱입니다: " + codecId);
+        }
+        return codec.read(reader);
+    }
+
+    private byte[] serializeJson(Object value) {
+        if (value instanceof CacheEnvelope envelope && CachedPage.supports(envelope.value())) {
+            value = new CacheEnvelope(
+                    CachedPage.from((Page<?>) envelope.value()), envelope.computeMillis(), envelope.expiresAtMillis()
+            );
+        } else if (CachedPage.supports(value)) {
+            value = CachedPage.from((Page<?>) value);
+        }
+        return fallback.serialize(value);
+    }
+
+    private Object deserializeJson(byte[] bytes) {
+        Object value = fallback.deserialize(bytes);
+        if (value instanceof CacheEnvelope envelope && envelope.value() instanceof CachedPage page) {
+            return new CacheEnvelope(page.toPage(), envelope.computeMillis(), envelope.expiresAtMillis());
+        }
+        return value instanceof CachedPage page ? page.toPage() : value;
+    }
+
+    // [버전][플래그][원본 길이(varint)][압축된 본문]
+    private byte[] compress(CacheValueWriter body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body.buffer(), 0, body.length());
+            deflater.finish();
+            CacheValueWriter out = new CacheValueWriter(body.length() / 2 + 16);
+            out.writeByte(VERSION);
+            out.writeByte(FLAG_COMPRESSED);
+            out.writeLong(body.length());
+            byte[] chunk = new byte[Math.max(64, body.length() / 2)];
+            while (!deflater.finished()) {
+                out.writeRaw(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        CacheValueReader header = new CacheValueReader(bytes, 2);
+        long length = header.readLong();
+        if (length < 0 || length > MAX_DECOMPRESSED_LENGTH) {
+            throw new SerializationException("압축된 캐시 값의 길이가 잘못되었습니다: " + length);
+        }
+        int originalLength = (int) length;
+        int offset = header.offset();
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] body = new byte[originalLength];
+            int read = 0;
+            while (read < originalLength && !inflater.finished()) {
+                int inflated = inflater.inflate(body, read, originalLength - read);
+                // 입력이 끝났거나 사전이 필요한데 더 풀리지 않으면 잘린 값이므로 멈춘다.
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("압축된 캐시 값이 잘렸거나 손상되었습니다.");
+                }
+                read += inflated;
+            }
+            if (read != originalLength) {
+                throw new SerializationException("압축된 캐시 값의 길이가 맞지 않습니다: " + read + "/" + originalLength);
+            }
+            return body;
+        } catch (DataFormatException e) {
+            throw new SerializationException("압축된 캐시 값을 읽을 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.support.cache;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 값과 함께 계산에 걸린 시간, 만료 시각을 저장한다.
+ * XFetch(확률적 조기 갱신) 판단에 사용한다.
+ */
+public record CacheEnvelope(
+        Object value,
+        long computeMillis,
+        long expiresAtMillis
+) implements Serializable {
+
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    public Duration remainingTtl() {
+        if (expiresAtMillis == NO_EXPIRY) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(Math.max(1L, expiresAtMillis - System.currentTimeMillis()));
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiry 이면 만료 전에 미리 갱신한다.
+     * 계산 비용이 클수록, 만료가 가까울수록 갱신 확률이 높아진다.
+     */
+    public boolean shouldRefreshEarly(double beta) {
+        if (computeMillis <= 0 || expiresAtMillis == NO_EXPIRY) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        double gap = -computeMillis * beta * Math.log(random);
+        return System.currentTimeMillis() + gap >= expiresAtMillis;
+    }
+}
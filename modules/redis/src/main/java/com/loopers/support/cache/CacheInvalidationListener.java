@@ -0,0 +1,33 @@
+package com.loopers.support.cache;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드가 발행한 무효화 메시지를 받아 이 노드의 L1 캐시를 비운다.
+ */
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final String nodeId;
+
+    public CacheInvalidationListener(TwoLevelCacheManager cacheManager, String nodeId) {
+        this.cacheManager = cacheManager;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] tokens = body.split("\\" + CacheInvalidationPublisher.DELIMITER, 3);
+        if (tokens.length != 3 || nodeId.equals(tokens[0])) {
+            // 형식이 잘못되었거나 자신이 발행한 메시지 (이미 로컬에 반영됨)
+            return;
+        }
+
+        String key = CacheInvalidationPublisher.ALL_KEYS.equals(tokens[2]) ? null : tokens[2];
+        cacheManager.evictLocal(tokens[1], key);
+    }
+}
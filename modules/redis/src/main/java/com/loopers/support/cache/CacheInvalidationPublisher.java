@@ -0,0 +1,46 @@
+package com.loopers.support.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 캐시 무효화를 Redis pub/sub 으로 모든 노드에 전파한다.
+ * 메시지 형식: {nodeId}|{cacheName}|{key}  (key 가 * 이면 전체 삭제)
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    static final String DELIMITER = "|";
+    static final String ALL_KEYS = "*";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, ALL_KEYS);
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드의 L1 은 TTL 로 만료되므로 요청은 실패시키지 않는다.
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+}
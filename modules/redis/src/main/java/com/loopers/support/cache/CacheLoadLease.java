@@ -0,0 +1,72 @@
+package com.loopers.support.cache;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 미스 시 노드 간 로딩을 한 곳으로 모으기 위한 짧은 Redis 임대(lease).
+ * 임대를 얻은 노드만 DB 에서 값을 읽고, 나머지 노드는 캐시에 값이 채워지기를 기다린다.
+ */
+public class CacheLoadLease {
+
+    private static final String KEY_PREFIX = "cache:lease:";
+
+    // 자신이 잡은 임대만 해제한다 (만료 후 다른 노드가 잡은 임대를 지우지 않도록)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration leaseTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    public CacheLoadLease(
+            RedisTemplate<String, String> redisTemplate,
+            Duration leaseTtl,
+            Duration waitTimeout,
+            Duration pollInterval
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = leaseTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * 임대 획득을 시도한다. 성공하면 해제에 사용할 토큰을, 실패하면 null 을 반환한다.
+     */
+    public String tryAcquire(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey(cacheName, key), token, leaseTtl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void release(String cacheName, String key, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(cacheName, key)), token);
+    }
+
+    /**
+     * 임대가 아직 남아 있는지 확인한다. 해제되었거나 만료되었으면 로딩한 노드가 끝났거나 실패한 것이다.
+     */
+    public boolean isHeld(String cacheName, String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey(cacheName, key)));
+    }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    private String leaseKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+}
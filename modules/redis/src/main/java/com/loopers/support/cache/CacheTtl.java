@@ -0,0 +1,21 @@
+package com.loopers.support.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 엔트리마다 기본 TTL 에 무작위 지터를 더한다.
+ * 같은 시점에 채워진 엔트리들이 한꺼번에 만료되지 않도록 값을 쓸 때마다 새로 계산한다.
+ */
+public record CacheTtl(
+        Duration base,
+        Duration maxJitter
+) {
+    public Duration next() {
+        long jitterMillis = maxJitter.toMillis();
+        if (jitterMillis <= 0) {
+            return base;
+        }
+        return base.plusMillis(ThreadLocalRandom.current().nextLong(0, jitterMillis));
+    }
+}
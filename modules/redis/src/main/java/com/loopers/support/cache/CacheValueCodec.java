@@ -0,0 +1,16 @@
+package com.loopers.support.cache;
+
+/**
+ * 특정 타입의 캐시 값을 바이너리로 인코딩한다. BinaryCacheValueSerializer 에 빈으로 등록하여 사용한다.
+ * id 는 저장된 값에 함께 기록되므로 한 번 정하면 바꾸거나 다른 코덱에 재사용하지 않는다. (1 ~ 127)
+ */
+public interface CacheValueCodec {
+
+    byte id();
+
+    boolean supports(Object value);
+
+    void write(Object value, CacheValueWriter writer);
+
+    Object read(CacheValueReader reader);
+}
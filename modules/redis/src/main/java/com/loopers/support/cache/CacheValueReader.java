@@ -0,0 +1,52 @@
+package com.loopers.support.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * CacheValueWriter 로 인코딩한 값을 읽는다.
+ */
+public final class CacheValueReader {
+
+    private final byte[] buffer;
+    private int offset;
+
+    public CacheValueReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    public int readByte() {
+        return buffer[offset++] & 0xFF;
+    }
+
+    public long readLong() {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer[offset++];
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public byte[] readBytes() {
+        int size = (int) readLong();
+        byte[] bytes = Arrays.copyOfRange(buffer, offset, offset + size);
+        offset += size;
+        return bytes;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    public String readString() {
+        int size = (int) readLong();
+        String value = new String(buffer, offset, size, StandardCharsets.UTF_8);
+        offset += size;
+        return value;
+    }
+}
@@ -0,0 +1,67 @@
+package com.loopers.support.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 캐시 값 인코딩용 버퍼. 정수는 가변 길이(varint, 음수는 zigzag)로 써서 작은 값이 적은 바이트를 차지하게 한다.
+ */
+public final class CacheValueWriter {
+
+    private byte[] buffer;
+    private int length;
+
+    public CacheValueWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) value;
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(10);
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[length++] = (byte) zigzag;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    public void writeString(String value) {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeRaw(byte[] bytes, int offset, int size) {
+        ensureCapacity(size);
+        System.arraycopy(bytes, offset, buffer, length, size);
+        length += size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int length() {
+        return length;
+    }
+
+    private void ensureCapacity(int size) {
+        if (buffer.length - length < size) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + size));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.support.cache;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON 으로 저장하는 Page 캐시 값. PageImpl 은 JSON 에서 다시 만들 수 없으므로 목록, 페이지 번호/크기, 전체 건수만 저장한다.
+ * 정렬 정보는 캐시 키에 포함되므로 저장하지 않는다. (바이너리 코덱과 같은 Page 로 복원된다)
+ */
+record CachedPage(
+        List<Object> content,
+        int number,
+        int size,
+        long totalElements
+) {
+
+    static boolean supports(Object value) {
+        return value instanceof Page<?> page && page.getPageable().isPaged();
+    }
+
+    static CachedPage from(Page<?> page) {
+        // getContent() 는 읽기 전용 래퍼라 타입 정보로 다시 만들 수 없으므로 ArrayList 로 복사한다.
+        return new CachedPage(new ArrayList<>(page.getContent()), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
+
+    Page<Object> toPage() {
+        return new PageImpl<>(content, PageRequest.of(number, size), totalElements);
+    }
+}
@@ -0,0 +1,315 @@
+package com.loopers.support.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 로컬(L1) 캐시와 Redis(L2) 캐시를 묶은 2단 캐시.
+ * 조회는 L1 → L2 순으로 하고, 변경(put/evict/clear)은 두 계층에 모두 반영한 뒤
+ * 다른 노드의 L1 도 비우도록 무효화 메시지를 발행한다.
+ * 값은 CacheEnvelope 로 감싸 저장하며, 만료가 가까운 엔트리는 XFetch 로 백그라운드에서 미리 갱신한다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheLoadLease lease;
+    private final CacheTtl ttl;
+    private final Executor refreshExecutor;
+    private final RedisCacheBulkOperations bulkOperations;
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+            Cache remote,
+            CacheInvalidationPublisher publisher,
+            CacheLoadLease lease,
+            CacheTtl ttl,
+            Executor refreshExecutor,
+            RedisCacheBulkOperations bulkOperations
+    ) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+        this.lease = lease;
+        this.ttl = ttl;
+        this.refreshExecutor = refreshExecutor;
+        this.bulkOperations = bulkOperations;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        CacheEnvelope envelope = lookupEnvelope(key);
+        return envelope != null ? envelope.value() : null;
+    }
+
+    private CacheEnvelope lookupEnvelope(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value instanceof CacheEnvelope envelope) {
+            return envelope;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        // 배포 이전에 envelope 없이 저장된 값은 조기 갱신 대상에서 제외한다.
+        CacheEnvelope envelope = wrapper.get() instanceof CacheEnvelope stored
+                ? stored
+                : new CacheEnvelope(wrapper.get(), 0L, CacheEnvelope.NO_EXPIRY);
+        local.put(localKey, envelope);
+        return envelope;
+    }
+
+    /**
+     * 캐시 미스 시 같은 키의 로딩을 노드 안에서는 SingleFlight 로, 노드 간에는 Redis 임대로 하나로 모은다.
+     * 캐시 히트라도 만료가 가까우면 값을 바로 반환하고 백그라운드에서 갱신한다.
+     * (@Cacheable(sync = true) 에서 호출된다)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEnvelope envelope = lookupEnvelope(key);
+        if (envelope != null) {
+            if (envelope.shouldRefreshEarly(EARLY_REFRESH_BETA)) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) envelope.value();
+        }
+
+        try {
+            return singleFlight.execute(localKey(key), () -> loadWithLease(key, valueLoader));
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadWithLease(Object key, Callable<T> valueLoader) throws Exception {
+        String localKey = localKey(key);
+        long deadline = System.nanoTime() + lease.getWaitTimeout().toNanos();
+        while (true) {
+            String token = lease.tryAcquire(name, localKey);
+            if (token != null) {
+                try {
+                    // 임대를 얻기 직전에 다른 노드가 값을 채웠을 수 있다.
+                    Object cached = lookup(key);
+                    if (cached != null) {
+                        return (T) cached;
+                    }
+                    return loadAndPut(key, valueLoader);
+                } finally {
+                    lease.release(name, localKey, token);
+                }
+            }
+
+            // 다른 노드가 로딩 중이면 그 결과가 Redis 에 기록되거나 임대가 풀릴 때까지 기다린다.
+            do {
+                if (System.nanoTime() >= deadline) {
+                    // 임대를 가진 노드가 너무 느리면 직접 로딩한다.
+                    return loadAndPut(key, valueLoader);
+                }
+                try {
+                    Thread.sleep(lease.getPollInterval().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return loadAndPut(key, valueLoader);
+                }
+                Object cached = lookup(key);
+                if (cached != null) {
+                    return (T) cached;
+                }
+            } while (lease.isHeld(name, localKey));
+            // 값을 기록하기 전에 임대가 풀렸으면 로딩한 노드가 실패한 것이므로, 남은 시간을 기다리지 않고 임대를 다시 시도한다.
+        }
+    }
+
+    private <T> T loadAndPut(Object key, Callable<T> valueLoader) throws Exception {
+        long startedAt = System.currentTimeMillis();
+        T loaded = valueLoader.call();
+        if (loaded != null) {
+            long now = System.currentTimeMillis();
+            put(key, new CacheEnvelope(loaded, now - startedAt, expiresAt(now)));
+        }
+        return loaded;
+    }
+
+    /**
+     * 노드 안에서는 키당 하나의 갱신만 예약하고, 노드 간에는 임대를 얻은 노드만 갱신한다.
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        if (!refreshing.add(localKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                String token = lease.tryAcquire(name, localKey);
+                if (token == null) {
+                    refreshing.remove(localKey);
+                    return;
+                }
+                try {
+                    loadAndPut(key, valueLoader);
+                } catch (Exception e) {
+                    log.warn("캐시 조기 갱신 실패: cache={}, key={}, error={}", name, localKey, e.getMessage());
+                } finally {
+                    lease.release(name, localKey, token);
+                    refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 작업이 밀려 있으면 이번 기회는 건너뛴다. 만료 전에 다시 시도된다.
+            refreshing.remove(localKey);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        CacheEnvelope envelope = value instanceof CacheEnvelope stored
+                ? stored
+                : new CacheEnvelope(value, 0L, expiresAt(System.currentTimeMillis()));
+        remote.put(key, envelope);
+        local.put(localKey(key), envelope);
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    /**
+     * 여러 키를 한 번에 조회한다. L1 에 없는 키만 모아 Redis 에 MGET 한 번으로 조회하고, 찾은 값은 L1 에 채운다.
+     * 어느 계층에도 없는 키는 결과에서 빠진다.
+     */
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        for (Object key : keys) {
+            if (local.getIfPresent(localKey(key)) instanceof CacheEnvelope envelope) {
+                found.put(key, envelope.value());
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return found;
+        }
+
+        if (bulkOperations == null) {
+            for (Object key : remoteKeys) {
+                Object value = lookup(key);
+                if (value != null) {
+                    found.put(key, value);
+                }
+            }
+            return found;
+        }
+
+        List<Object> stored = bulkOperations.multiGet(remoteKeys);
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            Object value = stored.get(i);
+            if (value == null) {
+                continue;
+            }
+            CacheEnvelope envelope = value instanceof CacheEnvelope storedEnvelope
+                    ? storedEnvelope
+                    : new CacheEnvelope(value, 0L, CacheEnvelope.NO_EXPIRY);
+            local.put(localKey(remoteKeys.get(i)), envelope);
+            found.put(remoteKeys.get(i), envelope.value());
+        }
+        return found;
+    }
+
+    /**
+     * 여러 엔트리를 한 번에 저장한다. Redis 에는 파이프라인 한 번으로 쓰고, 다른 노드의 L1 도 비운다.
+     */
+    public void putAll(Map<?, ?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (bulkOperations == null) {
+            values.forEach(this::put);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<Object, CacheEnvelope> envelopes = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            if (value != null) {
+                envelopes.put(key, new CacheEnvelope(value, 0L, expiresAt(now)));
+            }
+        });
+        bulkOperations.multiPut(envelopes);
+        envelopes.forEach((key, envelope) -> {
+            local.put(localKey(key), envelope);
+            publisher.publishEvict(name, localKey(key));
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publishClear(name);
+    }
+
+    /**
+     * 다른 노드에서 받은 무효화 메시지를 반영한다. L1 만 비운다.
+     */
+    public void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private long expiresAt(long now) {
+        return ttl != null ? now + ttl.next().toMillis() : CacheEnvelope.NO_EXPIRY;
+    }
+
+    // 노드 간 메시지로 주고받을 수 있도록 L1 키는 문자열로 통일한다.
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,122 @@
+package com.loopers.support.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 지정한 캐시만 L1(Caffeine) + L2(Redis) 로 감싸고, 나머지는 Redis 캐시를 그대로 반환한다.
+ */
+public class TwoLevelCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheManager remoteCacheManager;
+    private final Set<String> localCacheNames;
+    private final long maximumSize;
+    private final Duration ttl;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheLoadLease lease;
+    private final Map<String, CacheTtl> ttls;
+    private final RedisConnectionFactory connectionFactory;
+    // 조기 갱신(XFetch) 전용 스레드 풀. 큐가 가득 차면 갱신을 건너뛰고 만료 전에 다시 시도한다.
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            2, 4,
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(1000)
+    );
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<String>> localInvalidationHandlers = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager,
+            Collection<String> localCacheNames,
+            long maximumSize,
+            Duration ttl,
+            CacheInvalidationPublisher publisher,
+            CacheLoadLease lease,
+            Map<String, CacheTtl> ttls,
+            RedisConnectionFactory connectionFactory
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheNames = Set.copyOf(localCacheNames);
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.publisher = publisher;
+        this.lease = lease;
+        this.ttls = Map.copyOf(ttls);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null || !localCacheNames.contains(name)) {
+            return remote;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(ttl)
+                        .build(),
+                remote,
+                publisher,
+                lease,
+                ttls.get(cacheName),
+                refreshExecutor,
+                remote instanceof RedisCache redisCache
+                        ? new RedisCacheBulkOperations(connectionFactory, redisCache)
+                        : null
+        ));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 캐시가 아닌 노드 로컬 상태도 같은 무효화 채널로 비울 수 있도록 이름별 처리기를 등록한다.
+     * 처리기는 무효화할 키를 받는다. (전체 삭제면 null)
+     */
+    public void registerLocalInvalidation(String name, Consumer<String> handler) {
+        localInvalidationHandlers.put(name, handler);
+    }
+
+    /**
+     * 다른 노드에서 발생한 무효화를 L1 에 반영한다. 아직 생성되지 않은 캐시는 비울 것이 없으므로 무시한다.
+     */
+    public void evictLocal(String cacheName, String key) {
+        Consumer<String> handler = localInvalidationHandlers.get(cacheName);
+        if (handler != null) {
+            handler.accept(key);
+            return;
+        }
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdown();
+    }
+}
@@ -0,0 +1,9 @@
+-- 상품 목록 정렬(최신순, 가격순) 인덱스 추가
+-- prd 는 ddl-auto: none 이므로 배포 전에 직접 실행한다.
+-- 커서 기반 목록 조회가 정렬 컬럼 인덱스를 따라 읽고 LIMIT 에서 멈추도록 한다.
+-- 20261018_02 에서 deleted_at 을 포함한 인덱스로 교체된다.
+
+ALTER TABLE product
+    ADD INDEX idx_product_created_at (created_at),
+    ADD INDEX idx_product_price (price),
+    ALGORITHM = INPLACE, LOCK = NONE;
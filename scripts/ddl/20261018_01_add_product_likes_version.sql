@@ -0,0 +1,8 @@
+-- 상품 좋아요 수 버전 컬럼 추가
+-- prd 는 ddl-auto: none 이므로 배포 전에 직접 실행한다.
+-- 좋아요 수가 바뀔 때마다 1 씩 늘어나며, 랭킹/카탈로그 인덱스가 순서가 바뀌어 도착한 이전 이벤트를 버리는 데 쓴다.
+-- MySQL 8.0 에서는 테이블 재구성 없이 메타데이터만 바뀐다.
+
+ALTER TABLE product
+    ADD COLUMN likes_version BIGINT NOT NULL DEFAULT 0 AFTER likes,
+    ALGORITHM = INSTANT;
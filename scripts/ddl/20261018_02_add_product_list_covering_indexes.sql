@@ -0,0 +1,54 @@
+-- 상품 목록 정렬 인덱스를 deleted_at 을 포함한 인덱스로 교체
+-- prd 는 ddl-auto: none 이므로 배포 전에 직접 실행한다.
+-- 목록 조회는 항상 deleted_at IS NULL 조건이 붙으므로, 정렬 컬럼 앞에 deleted_at 을 두어
+-- 깊은 페이지의 ID 조회(지연 조인)가 보조 인덱스만으로 끝나도록 한다. (PK 는 보조 인덱스에 포함된다)
+-- 브랜드 필터가 붙은 최신순/가격순 목록도 같은 방식으로 처리되도록 브랜드 인덱스를 추가한다.
+-- 새 인덱스를 먼저 만들고 기존 인덱스를 지워, 교체 중에도 목록 조회가 인덱스를 쓸 수 있게 한다.
+
+ALTER TABLE product
+    ADD INDEX idx_product_deleted_likes (deleted_at, likes),
+    ADD INDEX idx_product_deleted_created_at (deleted_at, created_at),
+    ADD INDEX idx_product_deleted_price (deleted_at, price),
+    ADD INDEX idx_product_brand_deleted_likes (brand_id, deleted_at, likes),
+    ADD INDEX idx_product_brand_deleted_created_at (brand_id, deleted_at, created_at),
+    ADD INDEX idx_product_brand_deleted_price (brand_id, deleted_at, price),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 기존 인덱스는 환경마다 있을 수도, 없을 수도 있으므로(Hibernate 스키마 생성으로만 만들어진 경우) 있을 때만 지운다.
+-- MySQL 은 DROP INDEX IF EXISTS 를 지원하지 않아 information_schema 로 확인한 뒤 실행한다.
+
+SET @drop_index = (
+    SELECT IF(COUNT(*) > 0, 'ALTER TABLE product DROP INDEX idx_product_likes, ALGORITHM = INPLACE, LOCK = NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'product' AND index_name = 'idx_product_likes'
+);
+PREPARE drop_index FROM @drop_index;
+EXECUTE drop_index;
+DEALLOCATE PREPARE drop_index;
+
+SET @drop_index = (
+    SELECT IF(COUNT(*) > 0, 'ALTER TABLE product DROP INDEX idx_product_created_at, ALGORITHM = INPLACE, LOCK = NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'product' AND index_name = 'idx_product_created_at'
+);
+PREPARE drop_index FROM @drop_index;
+EXECUTE drop_index;
+DEALLOCATE PREPARE drop_index;
+
+SET @drop_index = (
+    SELECT IF(COUNT(*) > 0, 'ALTER TABLE product DROP INDEX idx_product_price, ALGORITHM = INPLACE, LOCK = NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'product' AND index_name = 'idx_product_price'
+);
+PREPARE drop_index FROM @drop_index;
+EXECUTE drop_index;
+DEALLOCATE PREPARE drop_index;
+
+SET @drop_index = (
+    SELECT IF(COUNT(*) > 0, 'ALTER TABLE product DROP INDEX idx_product_brand_likes, ALGORITHM = INPLACE, LOCK = NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'product' AND index_name = 'idx_product_brand_likes'
+);
+PREPARE drop_index FROM @drop_index;
+EXECUTE drop_index;
+DEALLOCATE PREPARE drop_index;